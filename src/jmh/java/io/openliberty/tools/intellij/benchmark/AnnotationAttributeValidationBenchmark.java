@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.benchmark;
+
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations.AnnotationAttributeRule;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations.RangeExpressionException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the validation of annotation attribute values with the range rules of the annotation validators (ex :
+ * <code>@Timeout(value)</code> must be greater than or equal to 0).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AnnotationAttributeValidationBenchmark {
+
+    private static final int VALUE_COUNT = 1024;
+
+    // Range expressions declared by the fault tolerance annotation validators
+    @Param({"0", "1", "[0,1]"})
+    public String range;
+
+    private AnnotationAttributeRule rule;
+    private double[] values;
+    private String[] valuesAsString;
+
+    @Setup(Level.Trial)
+    public void setUp() throws RangeExpressionException {
+        rule = new AnnotationAttributeRule("value");
+        rule.setRange(range);
+        // Mix of valid and invalid values
+        Random random = new Random(42);
+        values = new double[VALUE_COUNT];
+        valuesAsString = new String[VALUE_COUNT];
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            values[i] = random.nextInt(8) - 2;
+            valuesAsString[i] = Long.toString((long) values[i]);
+        }
+    }
+
+    /**
+     * Validation of constant values evaluated as numbers.
+     */
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT)
+    public void numericValues(Blackhole blackhole) {
+        for (double value : values) {
+            blackhole.consume(rule.validate(value));
+        }
+    }
+
+    /**
+     * Validation of values which must be parsed.
+     */
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT)
+    public void stringValues(Blackhole blackhole) {
+        for (String value : valuesAsString) {
+            blackhole.consume(rule.validate(value));
+        }
+    }
+}
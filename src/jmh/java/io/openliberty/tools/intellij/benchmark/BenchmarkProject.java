@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.benchmark;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ModuleRootModificationUtil;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.testFramework.EdtTestUtil;
+import com.intellij.testFramework.IdeaTestUtil;
+import com.intellij.testFramework.IndexingTestUtil;
+import com.intellij.testFramework.builders.JavaModuleFixtureBuilder;
+import com.intellij.testFramework.fixtures.*;
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Headless IntelliJ project used by the benchmarks.
+ *
+ * <p>
+ * The project has a single Java module created from a copy of a sample project under
+ * <code>src/test/resources/projects</code>, to which synthetic classes can be added to measure how a language
+ * feature scales with the size of the project. The libraries of the module are resolved from Maven.
+ * </p>
+ */
+public final class BenchmarkProject {
+
+    private static final String SOURCES = "src/main/java";
+    private static final String RESOURCES = "src/main/resources";
+
+    private final TempDirTestFixture tempDirFixture;
+    private final CodeInsightTestFixture fixture;
+    private final File projectDir;
+
+    private BenchmarkProject(TempDirTestFixture tempDirFixture, CodeInsightTestFixture fixture, File projectDir) {
+        this.tempDirFixture = tempDirFixture;
+        this.fixture = fixture;
+        this.projectDir = projectDir;
+    }
+
+    /**
+     * Opens a project from a copy of the given sample project.
+     *
+     * @param sampleDir  the sample project folder.
+     * @param generator  the generator of synthetic source files, or null.
+     * @param classCount the number of synthetic classes to generate.
+     * @param libraries  the Maven coordinates of the libraries of the module.
+     * @return the opened project.
+     * @throws Exception if the project cannot be created.
+     */
+    public static BenchmarkProject open(File sampleDir, SyntheticSources generator, int classCount,
+                                        List<String> libraries) throws Exception {
+        TempDirTestFixture tempDirFixture = IdeaTestFixtureFactory.getFixtureFactory().createTempDirTestFixture();
+        tempDirFixture.setUp();
+        File projectDir = new File(tempDirFixture.getTempDirPath(), sampleDir.getName());
+        FileUtils.copyDirectory(sampleDir, projectDir);
+        if (generator != null) {
+            generator.generate(projectDir.toPath().resolve(SOURCES), classCount);
+        }
+
+        TestFixtureBuilder<IdeaProjectTestFixture> projectBuilder = IdeaTestFixtureFactory.getFixtureFactory()
+                .createFixtureBuilder(sampleDir.getName());
+        JavaModuleFixtureBuilder<?> moduleBuilder = projectBuilder.addModule(JavaModuleFixtureBuilder.class);
+        moduleBuilder.addContentRoot(projectDir.getAbsolutePath());
+        moduleBuilder.addSourceRoot(SOURCES);
+        if (new File(projectDir, RESOURCES).isDirectory()) {
+            moduleBuilder.addSourceRoot(RESOURCES);
+        }
+        CodeInsightTestFixture fixture = JavaTestFixtureFactory.getFixtureFactory()
+                .createCodeInsightFixture(projectBuilder.getFixture());
+        EdtTestUtil.runInEdtAndWait(() -> {
+            fixture.setUp();
+            Module module = fixture.getModule();
+            ModuleRootModificationUtil.setModuleSdk(module,
+                    IdeaTestUtil.createMockJdk("java", System.getProperty("java.home")));
+            ModuleRootModificationUtil.updateModel(module, model -> {
+                for (String library : libraries) {
+                    MavenDependencyUtil.addFromMaven(model, library);
+                }
+            });
+        });
+        VfsUtil.markDirtyAndRefresh(false, true, true, LocalFileSystem.getInstance().refreshAndFindFileByIoFile(projectDir));
+        // Indexing runs asynchronously in a background thread since IntelliJ 2024.2.
+        IndexingTestUtil.waitUntilIndexesAreReady(fixture.getProject());
+        return new BenchmarkProject(tempDirFixture, fixture, projectDir);
+    }
+
+    public Project getProject() {
+        return fixture.getProject();
+    }
+
+    public Module getModule() {
+        return fixture.getModule();
+    }
+
+    /**
+     * Returns the file with the given path relative to the project folder.
+     *
+     * @param relativePath the path relative to the project folder.
+     * @return the file with the given path relative to the project folder.
+     */
+    public VirtualFile findFile(String relativePath) {
+        VirtualFile file = LocalFileSystem.getInstance().refreshAndFindFileByIoFile(new File(projectDir, relativePath));
+        if (file == null) {
+            throw new IllegalArgumentException("Cannot find '" + relativePath + "' in " + projectDir);
+        }
+        return file;
+    }
+
+    /**
+     * Returns the URI of the file with the given path relative to the project folder.
+     *
+     * @param relativePath the path relative to the project folder.
+     * @return the URI of the file with the given path relative to the project folder.
+     */
+    public String getUri(String relativePath) {
+        return VfsUtilCore.virtualToIoFile(findFile(relativePath)).toURI().toString();
+    }
+
+    /**
+     * Returns the URIs of the synthetic Java files of the project.
+     *
+     * @return the URIs of the synthetic Java files of the project.
+     * @throws IOException if the synthetic folder cannot be listed.
+     */
+    public List<String> getSyntheticUris() throws IOException {
+        Path syntheticDir = projectDir.toPath().resolve(SOURCES).resolve(SyntheticSources.PACKAGE_PATH);
+        if (!Files.isDirectory(syntheticDir)) {
+            return List.of();
+        }
+        try (var files = Files.list(syntheticDir)) {
+            return files.sorted().map(file -> file.toFile().toURI().toString()).toList();
+        }
+    }
+
+    /**
+     * Disposes the project and deletes its files.
+     *
+     * @throws Exception if the project cannot be disposed.
+     */
+    public void close() throws Exception {
+        EdtTestUtil.runInEdtAndWait(fixture::tearDown);
+        tempDirFixture.tearDown();
+    }
+}
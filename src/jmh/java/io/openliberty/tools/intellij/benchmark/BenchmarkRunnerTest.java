@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.benchmark;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+
+/**
+ * Entry point of the <code>jmh</code> Gradle task.
+ *
+ * <p>
+ * The benchmarks run in the JVM of the task, which is set up for the IntelliJ test framework, rather than in forked
+ * JVMs. The following system properties configure the run:
+ * <ul>
+ *     <li>jmh.include: regular expression of the benchmarks to run.</li>
+ *     <li>jmh.params: benchmark parameters overriding the defaults, ex: classCount=100,1000 (parameters are separated by ";").</li>
+ *     <li>jmh.results: the JSON file where the results are written.</li>
+ * </ul>
+ * </p>
+ */
+@RunWith(JUnit4.class)
+public class BenchmarkRunnerTest {
+
+    @Test
+    public void runBenchmarks() throws Exception {
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(System.getProperty("jmh.include", ".*Benchmark"))
+                .forks(0)
+                .shouldFailOnError(true);
+        String params = System.getProperty("jmh.params", "");
+        for (String param : params.split(";")) {
+            int index = param.indexOf('=');
+            if (index > 0) {
+                options.param(param.substring(0, index).trim(), param.substring(index + 1).trim().split(","));
+            }
+        }
+        String results = System.getProperty("jmh.results");
+        if (results != null) {
+            new File(results).getParentFile().mkdirs();
+            options.resultFormat(ResultFormatType.JSON).result(results);
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.benchmark;
+
+import com.intellij.openapi.application.ReadAction;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.PropertiesManagerForJakarta;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import org.eclipse.lsp4j.CodeAction;
+import org.eclipse.lsp4j.CodeActionContext;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaCodeActionParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the listing of the code actions of {@link PropertiesManagerForJakarta#getCodeAction} for a Java file
+ * with 50 diagnostics, when the client resolves the code actions on demand and when their edits must be computed
+ * while they are listed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class JakartaCodeActionBenchmark {
+
+    private static final File SAMPLE_DIR = new File("src/test/resources/projects/maven/jakarta-sample");
+
+    private static final List<String> LIBRARIES = List.of("jakarta.platform:jakarta.jakartaee-api:9.0.0");
+
+    private static final int DIAGNOSTIC_COUNT = 50;
+
+    @Param({"true", "false"})
+    public boolean resolveSupported;
+
+    private BenchmarkProject project;
+    private IPsiUtils utils;
+    private List<JakartaJavaCodeActionParams> codeActionParams;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        project = BenchmarkProject.open(SAMPLE_DIR, SyntheticSources.invalidInjectionPoints(DIAGNOSTIC_COUNT), 1,
+                LIBRARIES);
+        utils = PsiUtilsLSImpl.getInstance(project.getProject());
+        String uri = project.getSyntheticUris().get(0);
+        JakartaJavaDiagnosticsParams diagnosticsParams = new JakartaJavaDiagnosticsParams();
+        diagnosticsParams.setUris(List.of(uri));
+        List<Diagnostic> diagnostics = ReadAction.compute(() -> PropertiesManagerForJakarta.getInstance()
+                .diagnostics(diagnosticsParams, utils)).get(0).getDiagnostics();
+        if (diagnostics.size() < DIAGNOSTIC_COUNT) {
+            throw new IllegalStateException("Expected " + DIAGNOSTIC_COUNT + " diagnostics but got " + diagnostics.size());
+        }
+        // One request per diagnostic, as sent by the client when the cursor moves on a diagnostic
+        codeActionParams = diagnostics.subList(0, DIAGNOSTIC_COUNT).stream().map(diagnostic -> {
+            CodeActionContext context = new CodeActionContext();
+            context.setDiagnostics(List.of(diagnostic));
+            JakartaJavaCodeActionParams params = new JakartaJavaCodeActionParams(new TextDocumentIdentifier(uri),
+                    diagnostic.getRange(), context);
+            params.setResourceOperationSupported(true);
+            params.setResolveSupported(resolveSupported);
+            return params;
+        }).toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        project.close();
+    }
+
+    /**
+     * Lists the code actions of each diagnostic of the file.
+     */
+    @Benchmark
+    @OperationsPerInvocation(DIAGNOSTIC_COUNT)
+    public void listCodeActions(Blackhole blackhole) {
+        for (JakartaJavaCodeActionParams params : codeActionParams) {
+            List<? extends CodeAction> codeActions = PropertiesManagerForJakarta.getInstance().getCodeAction(params, utils);
+            blackhole.consume(codeActions);
+        }
+    }
+}
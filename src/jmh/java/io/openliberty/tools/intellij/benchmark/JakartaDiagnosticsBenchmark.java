@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.benchmark;
+
+import com.intellij.openapi.application.ReadAction;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.PropertiesManagerForJakarta;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsCache;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link PropertiesManagerForJakarta#diagnostics} against the <code>jakarta-sample</code> project scaled
+ * with synthetic Jakarta EE classes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class JakartaDiagnosticsBenchmark {
+
+    private static final File SAMPLE_DIR = new File("src/test/resources/projects/maven/jakarta-sample");
+
+    private static final List<String> LIBRARIES = List.of("jakarta.platform:jakarta.jakartaee-api:9.0.0");
+
+    private static final String[] SAMPLE_FILES = {
+            "src/main/java/io/openliberty/sample/jakarta/servlet/DontExtendHttpServlet.java",
+            "src/main/java/io/openliberty/sample/jakarta/jaxrs/NotPublicResourceMethod.java",
+            "src/main/java/io/openliberty/sample/jakarta/persistence/EntityMissingConstructor.java",
+            "src/main/java/io/openliberty/sample/jakarta/beanvalidation/FieldConstraintValidation.java",
+            "src/main/java/io/openliberty/sample/jakarta/cdi/ManagedBean.java"
+    };
+
+    @Param({"0", "100", "1000", "10000"})
+    public int classCount;
+
+    private BenchmarkProject project;
+    private IPsiUtils utils;
+    private JakartaJavaDiagnosticsParams sampleParams;
+    private JakartaJavaDiagnosticsParams syntheticParams;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        project = BenchmarkProject.open(SAMPLE_DIR, SyntheticSources.jakarta(), classCount, LIBRARIES);
+        utils = PsiUtilsLSImpl.getInstance(project.getProject());
+        sampleParams = new JakartaJavaDiagnosticsParams();
+        sampleParams.setUris(List.of(SAMPLE_FILES).stream().map(project::getUri).toList());
+        syntheticParams = new JakartaJavaDiagnosticsParams();
+        syntheticParams.setUris(project.getSyntheticUris());
+    }
+
+    /**
+     * Measures the diagnostics computation rather than the hits of the diagnostics cache.
+     */
+    @Setup(Level.Invocation)
+    public void clearCache() {
+        JavaDiagnosticsCache.getInstance(project.getProject()).clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        project.close();
+    }
+
+    /**
+     * Diagnostics of a fixed set of sample files, to measure the cost of the project size on a single request.
+     */
+    @Benchmark
+    public List<PublishDiagnosticsParams> sampleFiles() {
+        return ReadAction.compute(() -> PropertiesManagerForJakarta.getInstance().diagnostics(sampleParams, utils));
+    }
+
+    /**
+     * Diagnostics of all the synthetic files, to measure the throughput of the diagnostics collectors.
+     */
+    @Benchmark
+    public List<PublishDiagnosticsParams> syntheticFiles() {
+        return ReadAction.compute(() -> PropertiesManagerForJakarta.getInstance().diagnostics(syntheticParams, utils));
+    }
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.benchmark;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.PropertiesManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.PropertiesManagerForJava;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import org.eclipse.lsp4j.CodeLens;
+import org.eclipse.lsp4j.Hover;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4mp.commons.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the MicroProfile language features of {@link PropertiesManager} and {@link PropertiesManagerForJava}
+ * against the <code>sampleGradleMPLSApp</code> project scaled with synthetic classes injecting config properties.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class MicroProfileBenchmark {
+
+    private static final File SAMPLE_DIR = new File("src/test/resources/projects/gradle/sampleGradleMPLSApp");
+
+    // The dependencies of the sample project, without the microprofile POM which cannot be added as a library.
+    private static final List<String> LIBRARIES = List.of(
+            "jakarta.platform:jakarta.jakartaee-api:9.1.0",
+            "org.eclipse.microprofile.config:microprofile-config-api:1.4",
+            "org.eclipse.microprofile.health:microprofile-health-api:2.2",
+            "org.eclipse.microprofile.rest.client:microprofile-rest-client-api:1.4.0",
+            "jakarta.enterprise:jakarta.enterprise.cdi-api:2.0.2",
+            "jakarta.ws.rs:jakarta.ws.rs-api:2.1.6",
+            "javax.inject:javax.inject:1");
+
+    private static final String PROPERTIES_FILE = "src/main/resources/META-INF/microprofile-config.properties";
+
+    private static final String JAVA_FILE = "src/main/java/io/openliberty/mp/sample/config/ConfigTestController.java";
+
+    // Position of "injected.value" in @ConfigProperty(name = "injected.value")
+    private static final Position CONFIG_PROPERTY_POSITION = new Position(16, 30);
+
+    @Param({"0", "100", "1000", "10000"})
+    public int classCount;
+
+    private BenchmarkProject project;
+    private IPsiUtils utils;
+    private MicroProfileProjectInfoParams projectInfoParams;
+    private MicroProfileJavaHoverParams hoverParams;
+    private MicroProfileJavaCodeLensParams codeLensParams;
+    private MicroProfileJavaDefinitionParams definitionParams;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        project = BenchmarkProject.open(SAMPLE_DIR, SyntheticSources.microProfile(), classCount, LIBRARIES);
+        utils = PsiUtilsLSImpl.getInstance(project.getProject());
+
+        projectInfoParams = new MicroProfileProjectInfoParams(project.getUri(PROPERTIES_FILE));
+        projectInfoParams.setScopes(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+        projectInfoParams.setDocumentFormat(DocumentFormat.Markdown);
+
+        String javaUri = project.getUri(JAVA_FILE);
+        hoverParams = new MicroProfileJavaHoverParams();
+        hoverParams.setUri(javaUri);
+        hoverParams.setPosition(CONFIG_PROPERTY_POSITION);
+        hoverParams.setDocumentFormat(DocumentFormat.Markdown);
+
+        codeLensParams = new MicroProfileJavaCodeLensParams(javaUri);
+        codeLensParams.setUrlCodeLensEnabled(true);
+
+        definitionParams = new MicroProfileJavaDefinitionParams();
+        definitionParams.setUri(javaUri);
+        definitionParams.setPosition(CONFIG_PROPERTY_POSITION);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        project.close();
+    }
+
+    @Benchmark
+    public MicroProfileProjectInfo projectInfo() {
+        return ReadAction.compute(() -> PropertiesManager.getInstance()
+                .getMicroProfileProjectInfo(projectInfoParams, utils, new EmptyProgressIndicator()));
+    }
+
+    @Benchmark
+    public Hover hover() {
+        return ReadAction.compute(() -> PropertiesManagerForJava.getInstance().hover(hoverParams, utils));
+    }
+
+    @Benchmark
+    public List<? extends CodeLens> codeLens() {
+        return ReadAction.compute(() -> PropertiesManagerForJava.getInstance()
+                .codeLens(codeLensParams, utils, new EmptyProgressIndicator()));
+    }
+
+    @Benchmark
+    public List<MicroProfileDefinition> definition() {
+        return ReadAction.compute(() -> PropertiesManagerForJava.getInstance().definition(definitionParams, utils));
+    }
+}
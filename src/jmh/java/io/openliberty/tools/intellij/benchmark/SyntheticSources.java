@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.IntFunction;
+
+/**
+ * Generator of synthetic Java classes used to scale a sample project.
+ */
+public final class SyntheticSources {
+
+    static final String PACKAGE_NAME = "io.openliberty.tools.intellij.benchmark.generated";
+    static final String PACKAGE_PATH = PACKAGE_NAME.replace('.', '/');
+
+    private final String classPrefix;
+    private final IntFunction<String> classBody;
+
+    private SyntheticSources(String classPrefix, IntFunction<String> classBody) {
+        this.classPrefix = classPrefix;
+        this.classBody = classBody;
+    }
+
+    /**
+     * Returns a generator of Jakarta EE classes mixing servlets, REST resources, persistence entities and CDI beans,
+     * some of them with the errors reported by the Jakarta diagnostics collectors.
+     *
+     * @return a generator of Jakarta EE classes.
+     */
+    public static SyntheticSources jakarta() {
+        return new SyntheticSources("JakartaClass", index -> switch (index % 4) {
+            case 0 -> """
+                    import jakarta.servlet.annotation.WebServlet;
+
+                    @WebServlet(name = "servlet%1$d", urlPatterns = {"/servlet%1$d"})
+                    public class %2$s {
+                    }
+                    """;
+            case 1 -> """
+                    import jakarta.ws.rs.GET;
+                    import jakarta.ws.rs.Path;
+
+                    @Path("/resource%1$d")
+                    public class %2$s {
+
+                        @GET
+                        protected String get%1$d() {
+                            return "%1$d";
+                        }
+                    }
+                    """;
+            case 2 -> """
+                    import jakarta.persistence.Entity;
+                    import jakarta.persistence.Id;
+
+                    @Entity
+                    public final class %2$s {
+
+                        @Id
+                        private final long id;
+
+                        public %2$s(long id) {
+                            this.id = id;
+                        }
+                    }
+                    """;
+            default -> """
+                    import jakarta.enterprise.context.RequestScoped;
+                    import jakarta.inject.Inject;
+
+                    @RequestScoped
+                    public class %2$s {
+
+                        @Inject
+                        public String value%1$d;
+                    }
+                    """;
+        });
+    }
+
+    /**
+     * Returns a generator of classes with the given number of invalid injection points (final fields and final
+     * methods annotated with <code>@Inject</code>), each of them reported by a diagnostic with several quick fixes.
+     *
+     * @param injectionPointCount the number of invalid injection points of a class.
+     * @return a generator of classes with invalid injection points.
+     */
+    public static SyntheticSources invalidInjectionPoints(int injectionPointCount) {
+        return new SyntheticSources("InjectionClass", index -> {
+            StringBuilder body = new StringBuilder("""
+                    import jakarta.inject.Inject;
+
+                    public class %2$s {
+                    """);
+            for (int i = 0; i < injectionPointCount; i++) {
+                body.append("\n    @Inject\n");
+                if (i % 2 == 0) {
+                    body.append("    private final String field").append(i).append(" = \"\";\n");
+                } else {
+                    body.append("    public final void inject").append(i).append("() {\n    }\n");
+                }
+            }
+            return body.append("}\n").toString();
+        });
+    }
+
+    /**
+     * Returns a generator of classes injecting MicroProfile config properties.
+     *
+     * @return a generator of classes injecting MicroProfile config properties.
+     */
+    public static SyntheticSources microProfile() {
+        return new SyntheticSources("ConfigClass", index -> """
+                import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+                import javax.enterprise.context.ApplicationScoped;
+                import javax.inject.Inject;
+
+                @ApplicationScoped
+                public class %2$s {
+
+                    @Inject
+                    @ConfigProperty(name = "generated.property%1$d.name")
+                    String name;
+
+                    @Inject
+                    @ConfigProperty(name = "generated.property%1$d.port", defaultValue = "%1$d")
+                    int port;
+                }
+                """);
+    }
+
+    /**
+     * Generates the given number of classes in the given source folder.
+     *
+     * @param sourceDir  the source folder.
+     * @param classCount the number of classes to generate.
+     * @throws IOException if a class cannot be written.
+     */
+    public void generate(Path sourceDir, int classCount) throws IOException {
+        Path packageDir = sourceDir.resolve(PACKAGE_PATH);
+        Files.createDirectories(packageDir);
+        for (int i = 0; i < classCount; i++) {
+            String className = classPrefix + i;
+            String source = "package " + PACKAGE_NAME + ";\n\n" + classBody.apply(i).formatted(i, className);
+            Files.writeString(packageDir.resolve(className + ".java"), source, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 IBM Corporation.
+ * Copyright (c) 2020, 2026 IBM Corporation.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -10,11 +10,13 @@
 
 package io.openliberty.tools.intellij;
 
+import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.wm.ToolWindow;
 import com.intellij.openapi.wm.ToolWindowFactory;
 import com.intellij.ui.content.Content;
 import com.intellij.ui.content.ContentManager;
+import io.openliberty.tools.intellij.metrics.LanguageClientMetricsPanel;
 import io.openliberty.tools.intellij.util.LocalizedResourceUtil;
 import org.jetbrains.annotations.NotNull;
 
@@ -29,5 +31,13 @@ final class LibertyDevToolWindowFactory implements ToolWindowFactory {
                 LocalizedResourceUtil.getMessage("liberty.tool.window.display.name"), false);
         contentManager.addContent(content);
 
+        // Latency metrics of the MicroProfile and Jakarta language clients, only shown in internal mode
+        if (ApplicationManager.getApplication().isInternal()) {
+            LanguageClientMetricsPanel metricsPanel = new LanguageClientMetricsPanel(project);
+            Content metricsContent = contentManager.getFactory().createContent(metricsPanel,
+                    LocalizedResourceUtil.getMessage("liberty.performance.tool.window.display.name"), false);
+            metricsContent.setDisposer(metricsPanel);
+            contentManager.addContent(metricsContent);
+        }
     }
 }
@@ -22,12 +22,11 @@ import io.openliberty.tools.intellij.lsp4mp.MicroProfileProjectService;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.ProjectLabelManager;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.PropertiesManagerForJava;
 import com.redhat.devtools.lsp4ij.client.CoalesceByKey;
-import com.redhat.devtools.lsp4ij.client.IndexAwareLanguageClient;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import io.openliberty.tools.intellij.metrics.MeasuredLanguageClient;
 import org.apache.commons.lang3.tuple.Pair;
 import org.eclipse.lsp4j.CodeAction;
-import org.eclipse.lsp4j.CompletionList;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4jakarta.commons.*;
 import org.eclipse.lsp4jakarta.ls.api.JakartaLanguageClientAPI;
@@ -44,7 +43,7 @@ import java.util.concurrent.CompletableFuture;
  * Adapted from https://github.com/redhat-developer/intellij-quarkus/blob/2585eb422beeb69631076d2c39196d6eca2f5f2e/src/main/java/com/redhat/devtools/intellij/quarkus/lsp/QuarkusLanguageClient.java
  * to match LSP4MP, Language Server for MicroProfile
  */
-public final class JakartaLanguageClient extends IndexAwareLanguageClient implements JakartaLanguageClientAPI, MicroProfileProjectService.Listener {
+public final class JakartaLanguageClient extends MeasuredLanguageClient implements JakartaLanguageClientAPI, MicroProfileProjectService.Listener {
 
   public JakartaLanguageClient(Project project) {
     super(project);
@@ -55,7 +54,12 @@ public final class JakartaLanguageClient extends IndexAwareLanguageClient implem
   public CompletableFuture<List<PublishDiagnosticsParams>> getJavaDiagnostics(JakartaJavaDiagnosticsParams jakartaJavaDiagnosticsParams) {
     final IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
     final var coalesceBy = new CoalesceByKey("jakarta/java/diagnostics", jakartaJavaDiagnosticsParams.getUris());
-    return runAsBackground("Computing Jakarta Java diagnostics",
+    if (jakartaJavaDiagnosticsParams.getUris() != null && jakartaJavaDiagnosticsParams.getUris().size() > 1) {
+      // The files are collected in parallel, each one in its own non-blocking read action
+      return runWithMetrics("jakarta/java/diagnostics",
+              () -> PropertiesManagerForJakarta.getInstance().diagnosticsInParallel(jakartaJavaDiagnosticsParams, utils), coalesceBy);
+    }
+    return runAsBackgroundWithMetrics("jakarta/java/diagnostics", "Computing Jakarta Java diagnostics",
             monitor -> PropertiesManagerForJakarta.getInstance().diagnostics(jakartaJavaDiagnosticsParams, utils), coalesceBy);
   }
 
@@ -64,7 +68,7 @@ public final class JakartaLanguageClient extends IndexAwareLanguageClient implem
   public CompletableFuture<List<CodeAction>> getJavaCodeAction(JakartaJavaCodeActionParams jakartaJavaCodeActionParams) {
     final IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
     final var coalesceBy = new CoalesceByKey("jakarta/java/codeAction", jakartaJavaCodeActionParams.getUri());
-    return runAsBackground("Computing Jakarta code actions",
+    return runAsBackgroundWithMetrics("jakarta/java/codeAction", "Computing Jakarta code actions",
             monitor -> (List<CodeAction>) PropertiesManagerForJakarta.getInstance().getCodeAction(jakartaJavaCodeActionParams, utils), coalesceBy);
   }
 
@@ -73,7 +77,7 @@ public final class JakartaLanguageClient extends IndexAwareLanguageClient implem
   public CompletableFuture<CodeAction> resolveCodeAction(CodeAction codeAction) {
     final IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
     final var coalesceBy = new CoalesceByKey("jakarta/java/resolveCodeAction");
-    return runAsBackground("Computing Java resolve code actions", monitor -> {
+    return runAsBackgroundWithMetrics("jakarta/java/resolveCodeAction", "Computing Java resolve code actions", monitor -> {
       final CodeActionResolveData data = JSONUtils.toModel(codeAction.getData(), CodeActionResolveData.class);
       codeAction.setData(data);
       return PropertiesManagerForJakarta.getInstance().resolveCodeAction(codeAction, utils);
@@ -85,11 +89,8 @@ public final class JakartaLanguageClient extends IndexAwareLanguageClient implem
   public CompletableFuture<JakartaJavaCompletionResult> getJavaCompletion(JakartaJavaCompletionParams jakartaJavaCompletionParams) {
     final IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
     final var coalesceBy = new CoalesceByKey("jakarta/java/completion", jakartaJavaCompletionParams.getUri(), jakartaJavaCompletionParams.getPosition());
-    return runAsBackground("Computing Java completion", monitor -> {
-      final CompletionList completionList = PropertiesManagerForJakarta.getInstance().completion(jakartaJavaCompletionParams, utils);
-      final JavaCursorContextResult cursorContext = PropertiesManagerForJakarta.getInstance().javaCursorContext(jakartaJavaCompletionParams, utils);
-      return new JakartaJavaCompletionResult(completionList, cursorContext);
-    }, coalesceBy);
+    return runAsBackgroundWithMetrics("jakarta/java/completion", "Computing Java completion",
+            monitor -> PropertiesManagerForJakarta.getInstance().completionWithCursorContext(jakartaJavaCompletionParams, utils), coalesceBy);
   }
 
   // Support the message "jakarta/java/projectLabels"
@@ -98,7 +99,7 @@ public final class JakartaLanguageClient extends IndexAwareLanguageClient implem
     final IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
     final var coalesceBy = new CoalesceByKey("jakarta/java/projectLabels",
             jakartaJavaProjectLabelsParams.getUri(), jakartaJavaProjectLabelsParams.getTypes());
-    return runAsBackground("Computing Java projects labels",
+    return runAsBackgroundWithMetrics("jakarta/java/projectLabels", "Computing Java projects labels",
             monitor -> adapt(ProjectLabelManager.getInstance().getProjectLabelInfo(adapt(jakartaJavaProjectLabelsParams), utils)), coalesceBy);
   }
 
@@ -107,7 +108,7 @@ public final class JakartaLanguageClient extends IndexAwareLanguageClient implem
   public CompletableFuture<List<ProjectLabelInfoEntry>> getAllJavaProjectLabels() {
     final IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
     final var coalesceBy = new CoalesceByKey("jakarta/java/workspaceLabels");
-    return runAsBackground("Computing All Java projects labels",
+    return runAsBackgroundWithMetrics("jakarta/java/workspaceLabels", "Computing All Java projects labels",
             monitor -> adapt(ProjectLabelManager.getInstance().getProjectLabelInfo(utils)), coalesceBy);
   }
 
@@ -116,7 +117,7 @@ public final class JakartaLanguageClient extends IndexAwareLanguageClient implem
   public CompletableFuture<JakartaJavaFileInfo> getJavaFileInfo(JakartaJavaFileInfoParams jakartaJavaFileInfoParams) {
     final IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
     final var coalesceBy = new CoalesceByKey("jakarta/java/fileInfo", jakartaJavaFileInfoParams.getUri());
-    return runAsBackground("Computing Java file info",
+    return runAsBackgroundWithMetrics("jakarta/java/fileInfo", "Computing Java file info",
             monitor -> adapt(PropertiesManagerForJava.getInstance().fileInfo(adapt(jakartaJavaFileInfoParams), utils)), coalesceBy);
   }
 
@@ -20,7 +20,6 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.intellij.psi.*;
-import com.intellij.psi.search.GlobalSearchScope;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
 import org.eclipse.lsp4j.Diagnostic;
@@ -88,6 +87,22 @@ public abstract class AbstractDiagnosticsCollector implements DiagnosticsCollect
         return diagnostic;
     }
 
+    /**
+     * Registers the collector in the traversal shared by the collectors of the context
+     * when it collects its diagnostics with the visit methods.
+     *
+     * @param context the java diagnostics context
+     */
+    @Override
+    public void beginDiagnostics(JavaDiagnosticsContext context) {
+        if (isTraversalCollector()) {
+            DiagnosticsTraversal traversal = DiagnosticsTraversal.getTraversal(context);
+            if (traversal != null) {
+                traversal.register(this);
+            }
+        }
+    }
+
     /**
      * Collect diagnostics according to the context.
      *
@@ -100,6 +115,9 @@ public abstract class AbstractDiagnosticsCollector implements DiagnosticsCollect
     public final List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context) {
         PsiFile typeRoot = context.getTypeRoot();
         if (typeRoot instanceof PsiJavaFile) {
+            if (isTraversalCollector()) {
+                return DiagnosticsTraversal.getTraversal(context).getDiagnostics(this);
+            }
             List<Diagnostic> diagnostics = new ArrayList<>();
             collectDiagnostics((PsiJavaFile) typeRoot, diagnostics);
             return diagnostics;
@@ -110,10 +128,86 @@ public abstract class AbstractDiagnosticsCollector implements DiagnosticsCollect
     /**
      * Returns diagnostics for the given compilation unit.
      *
+     * <p>
+     * By default, the compilation unit is walked with the visit methods. Collectors which
+     * don't use the visit methods override this method.
+     * </p>
+     *
      * @param unit        compilation unit of Java class
      * @param diagnostics diagnostics for the given compilation unit to return
      */
     public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
+        if (unit != null && isTraversalCollector()) {
+            DiagnosticsTraversal.collect(unit, this, diagnostics);
+        }
+    }
+
+    /**
+     * Returns true if the collector collects its diagnostics with the visit methods and
+     * false if it walks the compilation unit in
+     * {@link #collectDiagnostics(PsiJavaFile, List)}.
+     *
+     * <p>
+     * The types, fields and methods of the compilation unit are walked once for all
+     * the collectors which use the visit methods.
+     * </p>
+     *
+     * @return true if the collector collects its diagnostics with the visit methods and
+     *         false otherwise.
+     */
+    protected boolean isTraversalCollector() {
+        return false;
+    }
+
+    /**
+     * Collects the diagnostics of the given type.
+     *
+     * @param unit            compilation unit of Java class
+     * @param type            the type
+     * @param annotationIndex the annotations of the elements of the compilation unit
+     * @param diagnostics     diagnostics for the given compilation unit to return
+     */
+    protected void visitType(PsiJavaFile unit, PsiClass type, AnnotationIndex annotationIndex,
+                             List<Diagnostic> diagnostics) {
+    }
+
+    /**
+     * Collects the diagnostics of the given field.
+     *
+     * @param unit            compilation unit of Java class
+     * @param type            the type declaring the field
+     * @param field           the field
+     * @param annotationIndex the annotations of the elements of the compilation unit
+     * @param diagnostics     diagnostics for the given compilation unit to return
+     */
+    protected void visitField(PsiJavaFile unit, PsiClass type, PsiField field, AnnotationIndex annotationIndex,
+                              List<Diagnostic> diagnostics) {
+    }
+
+    /**
+     * Collects the diagnostics of the given method.
+     *
+     * @param unit            compilation unit of Java class
+     * @param type            the type declaring the method
+     * @param method          the method
+     * @param annotationIndex the annotations of the elements of the compilation unit
+     * @param diagnostics     diagnostics for the given compilation unit to return
+     */
+    protected void visitMethod(PsiJavaFile unit, PsiClass type, PsiMethod method, AnnotationIndex annotationIndex,
+                               List<Diagnostic> diagnostics) {
+    }
+
+    /**
+     * Collects the diagnostics of the given type which depend on several of its members.
+     * Called once the fields and the methods of the type have been visited.
+     *
+     * @param unit            compilation unit of Java class
+     * @param type            the type
+     * @param annotationIndex the annotations of the elements of the compilation unit
+     * @param diagnostics     diagnostics for the given compilation unit to return
+     */
+    protected void endType(PsiJavaFile unit, PsiClass type, AnnotationIndex annotationIndex,
+                           List<Diagnostic> diagnostics) {
     }
 
     /**
@@ -143,9 +237,7 @@ public abstract class AbstractDiagnosticsCollector implements DiagnosticsCollect
      */
     protected static boolean isMatchedJavaElement(PsiClass type, String javaElementName, String javaElementFQName) {
         if (javaElementFQName.equals(javaElementName)) {
-            JavaPsiFacade facade = JavaPsiFacade.getInstance(type.getProject());
-            Object o = facade.findClass(javaElementFQName, GlobalSearchScope.allScope(type.getProject()));
-            return (o != null);
+            return JavaClassResolutionCache.isResolvable(type.getProject(), javaElementFQName);
         }
         return false;
     }
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij;
+
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiModifierListOwner;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Annotations of the Java elements of a compilation unit with their resolved qualified names.
+ *
+ * <p>
+ * Resolving the qualified name of an annotation requires to resolve its reference. The index resolves the
+ * annotations of an element once, the first time they are requested, and shares the result between all the
+ * diagnostics collectors dispatched by {@link DiagnosticsTraversal}.
+ * </p>
+ *
+ * <p>
+ * The returned arrays are shared and must not be modified. An index is only valid for the read action in which it
+ * has been created.
+ * </p>
+ */
+public final class AnnotationIndex {
+
+    private static final String[] NO_NAMES = new String[0];
+
+    private record Entry(PsiAnnotation[] annotations, String[] names) {
+    }
+
+    private final Map<PsiModifierListOwner, Entry> entries = new HashMap<>();
+
+    /**
+     * Returns the annotations of the given element in declaration order.
+     *
+     * @param element the annotated element.
+     * @return the annotations of the given element in declaration order.
+     */
+    public PsiAnnotation[] getAnnotations(PsiModifierListOwner element) {
+        return getEntry(element).annotations();
+    }
+
+    /**
+     * Returns the qualified names of the annotations of the given element in declaration order.
+     * A name is null when the annotation cannot be resolved.
+     *
+     * @param element the annotated element.
+     * @return the qualified names of the annotations of the given element.
+     */
+    public String[] getAnnotationNames(PsiModifierListOwner element) {
+        return getEntry(element).names();
+    }
+
+    private Entry getEntry(PsiModifierListOwner element) {
+        return entries.computeIfAbsent(element, e -> {
+            PsiAnnotation[] annotations = e.getAnnotations();
+            if (annotations.length == 0) {
+                return new Entry(annotations, NO_NAMES);
+            }
+            String[] names = new String[annotations.length];
+            for (int i = 0; i < annotations.length; i++) {
+                names[i] = annotations[i].getQualifiedName();
+            }
+            return new Entry(annotations, names);
+        });
+    }
+}
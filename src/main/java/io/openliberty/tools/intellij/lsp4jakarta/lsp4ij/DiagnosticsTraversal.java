@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij;
+
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiMethod;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
+import io.openliberty.tools.intellij.util.ExceptionUtil;
+import org.eclipse.lsp4j.Diagnostic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Single pass traversal of a compilation unit shared by the diagnostics collectors.
+ *
+ * <p>
+ * Collectors register themselves in {@link AbstractDiagnosticsCollector#beginDiagnostics(JavaDiagnosticsContext)}.
+ * The first time the diagnostics of a registered collector are requested, the types of the compilation unit, their
+ * fields and their methods are walked once and each element is dispatched to all the registered collectors, which
+ * share the same {@link AnnotationIndex}. Once the members of a type have been visited, the collectors are notified
+ * with {@link AbstractDiagnosticsCollector#endType} so that they can report the checks which span the whole type. The diagnostics of each collector are kept apart so that they can be
+ * returned by their own {@link AbstractDiagnosticsCollector#collectDiagnostics(JavaDiagnosticsContext)} call.
+ * </p>
+ *
+ * <p>
+ * A collector that fails while visiting an element is removed from the traversal and reports no diagnostics, as it
+ * would have done when collecting its diagnostics alone.
+ * </p>
+ */
+public final class DiagnosticsTraversal {
+
+    private static final Logger LOGGER = Logger.getLogger(DiagnosticsTraversal.class.getName());
+
+    private static final String CONTEXT_KEY = DiagnosticsTraversal.class.getName();
+
+    private final PsiJavaFile unit;
+
+    private final AnnotationIndex annotationIndex = new AnnotationIndex();
+
+    private final Map<AbstractDiagnosticsCollector, List<Diagnostic>> diagnosticsByCollector = new IdentityHashMap<>();
+
+    private final List<AbstractDiagnosticsCollector> collectors = new ArrayList<>();
+
+    private boolean traversed;
+
+    private DiagnosticsTraversal(PsiJavaFile unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * Returns the traversal of the compilation unit of the given context and null if the context is not a Java file.
+     *
+     * @param context the java diagnostics context.
+     * @return the traversal of the compilation unit of the given context and null otherwise.
+     */
+    static DiagnosticsTraversal getTraversal(JavaDiagnosticsContext context) {
+        if (!(context.getTypeRoot() instanceof PsiJavaFile unit)) {
+            return null;
+        }
+        DiagnosticsTraversal traversal = (DiagnosticsTraversal) context.get(CONTEXT_KEY);
+        if (traversal == null) {
+            traversal = new DiagnosticsTraversal(unit);
+            context.put(CONTEXT_KEY, traversal);
+        }
+        return traversal;
+    }
+
+    /**
+     * Collects the diagnostics of the given collector alone.
+     *
+     * @param unit        the compilation unit.
+     * @param collector   the diagnostics collector.
+     * @param diagnostics the list where the diagnostics are added.
+     */
+    static void collect(PsiJavaFile unit, AbstractDiagnosticsCollector collector, List<Diagnostic> diagnostics) {
+        DiagnosticsTraversal traversal = new DiagnosticsTraversal(unit);
+        traversal.register(collector);
+        traversal.traverse(false);
+        diagnostics.addAll(traversal.getDiagnostics(collector));
+    }
+
+    /**
+     * Registers the given collector. Collectors must be registered before the diagnostics of one of them are
+     * requested.
+     *
+     * @param collector the diagnostics collector.
+     */
+    void register(AbstractDiagnosticsCollector collector) {
+        if (!traversed && !diagnosticsByCollector.containsKey(collector)) {
+            collectors.add(collector);
+            diagnosticsByCollector.put(collector, new ArrayList<>());
+        }
+    }
+
+    /**
+     * Returns the diagnostics of the given collector, walking the compilation unit if it has not been done yet.
+     *
+     * @param collector the diagnostics collector.
+     * @return the diagnostics of the given collector.
+     */
+    List<Diagnostic> getDiagnostics(AbstractDiagnosticsCollector collector) {
+        if (!traversed) {
+            traverse(true);
+        }
+        List<Diagnostic> diagnostics = diagnosticsByCollector.get(collector);
+        if (diagnostics == null) {
+            // The collector was not registered before the traversal, collect its diagnostics alone.
+            diagnostics = new ArrayList<>();
+            collect(unit, collector, diagnostics);
+        }
+        return diagnostics;
+    }
+
+    private void traverse(boolean handleErrors) {
+        traversed = true;
+        for (PsiClass type : unit.getClasses()) {
+            dispatch(handleErrors, collector -> collector.visitType(unit, type, annotationIndex, diagnosticsByCollector.get(collector)));
+            for (PsiField field : type.getFields()) {
+                dispatch(handleErrors, collector -> collector.visitField(unit, type, field, annotationIndex, diagnosticsByCollector.get(collector)));
+            }
+            for (PsiMethod method : type.getMethods()) {
+                dispatch(handleErrors, collector -> collector.visitMethod(unit, type, method, annotationIndex, diagnosticsByCollector.get(collector)));
+            }
+            dispatch(handleErrors, collector -> collector.endType(unit, type, annotationIndex, diagnosticsByCollector.get(collector)));
+            if (collectors.isEmpty()) {
+                break;
+            }
+        }
+    }
+
+    private void dispatch(boolean handleErrors, ElementVisitor visitor) {
+        List<AbstractDiagnosticsCollector> failed = null;
+        for (AbstractDiagnosticsCollector collector : collectors) {
+            if (!handleErrors) {
+                // The error is handled by the caller as for any other participant.
+                visitor.visit(collector);
+                continue;
+            }
+            boolean visited = ExceptionUtil.executeWithExceptionHandling(
+                    () -> {
+                        visitor.visit(collector);
+                        return true;
+                    },
+                    e -> {
+                        LOGGER.log(Level.WARNING, "Error while calling collectDiagnostics", e);
+                        return false;
+                    }
+            );
+            if (!visited) {
+                if (failed == null) {
+                    failed = new ArrayList<>();
+                }
+                failed.add(collector);
+            }
+        }
+        if (failed != null) {
+            for (AbstractDiagnosticsCollector collector : failed) {
+                collectors.remove(collector);
+                diagnosticsByCollector.put(collector, Collections.emptyList());
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ElementVisitor {
+        void visit(AbstractDiagnosticsCollector collector);
+    }
+}
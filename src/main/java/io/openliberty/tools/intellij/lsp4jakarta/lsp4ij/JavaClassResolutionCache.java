@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import io.openliberty.tools.intellij.metrics.CacheMetrics;
+import io.openliberty.tools.intellij.metrics.LanguageClientMetrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Project level cache of whether a fully qualified class name can be resolved in the project and its libraries.
+ *
+ * <p>
+ * The diagnostics collectors check that the annotations and types they match exist on the classpath for every
+ * annotation of every element of a file. The result of the {@link JavaPsiFacade#findClass} lookup is kept until a
+ * PSI or a project root changes.
+ * </p>
+ *
+ * <p>
+ * Any PSI change (ex : a character typed in any file of the project) drops the cache, so in practice it is only
+ * reused by the lookups of one diagnostics request, and by the requests which follow it without any edit. Its hits
+ * and misses are reported in the {@link LanguageClientMetrics} of the project.
+ * </p>
+ */
+public final class JavaClassResolutionCache {
+
+    private static final Key<CachedValue<Map<String, Boolean>>> RESOLVED_CLASSES_KEY = Key.create("liberty.jakarta.resolvedClasses");
+
+    private static final String CACHE_NAME = "jakarta/resolvedClasses";
+
+    private JavaClassResolutionCache() {
+    }
+
+    /**
+     * Returns true if a class with the given fully qualified name exists in the given project or its libraries and
+     * false otherwise.
+     *
+     * @param project the project.
+     * @param fqName  the fully qualified class name.
+     * @return true if a class with the given fully qualified name exists and false otherwise.
+     */
+    public static boolean isResolvable(Project project, String fqName) {
+        Map<String, Boolean> resolvedClasses = CachedValuesManager.getManager(project).getCachedValue(project,
+                RESOLVED_CLASSES_KEY,
+                () -> CachedValueProvider.Result.create(new ConcurrentHashMap<>(),
+                        PsiModificationTracker.getInstance(project), ProjectRootManager.getInstance(project)),
+                false);
+        CacheMetrics metrics = LanguageClientMetrics.getInstance(project).getCacheMetrics(CACHE_NAME);
+        Boolean resolvable = resolvedClasses.get(fqName);
+        if (resolvable != null) {
+            metrics.hit();
+            return resolvable;
+        }
+        metrics.miss();
+        resolvable = JavaPsiFacade.getInstance(project).findClass(fqName, GlobalSearchScope.allScope(project)) != null;
+        resolvedClasses.put(fqName, resolvable);
+        return resolvable;
+    }
+}
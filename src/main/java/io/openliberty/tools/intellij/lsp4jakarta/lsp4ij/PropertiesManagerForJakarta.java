@@ -24,11 +24,13 @@ import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4jakarta.commons.*;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaCodeActionParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaCompletionParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaCompletionResult;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsSettings;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public final class PropertiesManagerForJakarta {
 
@@ -63,6 +65,18 @@ public final class PropertiesManagerForJakarta {
         return diagnosticsHandler.collectDiagnostics(adapt(params), utils);
     }
 
+    /**
+     * Returns the future of the diagnostics for the given uris list, collected in parallel. This method must be
+     * called outside of a read action.
+     *
+     * @param params the diagnostics parameters
+     * @param utils  the IPsiUtils
+     * @return the future of the diagnostics for the given uris list.
+     */
+    public CompletableFuture<List<PublishDiagnosticsParams>> diagnosticsInParallel(JakartaJavaDiagnosticsParams params, IPsiUtils utils) {
+        return diagnosticsHandler.collectDiagnosticsInParallel(adapt(params), utils);
+    }
+
     /**
      * Returns the CompletionItems given the completion item params
      *
@@ -74,6 +88,19 @@ public final class PropertiesManagerForJakarta {
         return completionHandler.completion(adapt(params), utils);
     }
 
+    /**
+     * Returns the CompletionItems and the cursor context given the completion item params, resolving the file once
+     * for both.
+     *
+     * @param params  the completion item params
+     * @param utils   the IPsiUtils
+     * @return the CompletionItems and the cursor context for the given the completion item params
+     */
+    public JakartaJavaCompletionResult completionWithCursorContext(JakartaJavaCompletionParams params, IPsiUtils utils) {
+        MicroProfileJavaCompletionResult result = completionHandler.completionWithCursorContext(adapt(params), utils);
+        return new JakartaJavaCompletionResult(result.getCompletionList(), adapt(result.getCursorContext()));
+    }
+
     /**
      * Returns the cursor context for the given file and cursor position.
      *
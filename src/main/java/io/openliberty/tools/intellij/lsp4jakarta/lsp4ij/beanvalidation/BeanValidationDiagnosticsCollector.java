@@ -15,6 +15,7 @@ package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.beanvalidation;
 
 import com.intellij.psi.*;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AnnotationIndex;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
@@ -26,6 +27,8 @@ import java.util.List;
 
 public class BeanValidationDiagnosticsCollector extends AbstractDiagnosticsCollector {
 
+    private static final String[] CONSTRAINT_ANNOTATIONS = SET_OF_ANNOTATIONS.toArray(new String[0]);
+
     public BeanValidationDiagnosticsCollector() {
         super();
     }
@@ -35,41 +38,37 @@ public class BeanValidationDiagnosticsCollector extends AbstractDiagnosticsColle
         return DIAGNOSTIC_SOURCE;
     }
 
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
-        if (unit != null) {
-            PsiClass[] alltypes;
-            PsiField[] allFields;
-            PsiMethod[] allMethods;
-
-            alltypes = unit.getClasses();
-            for (PsiClass type : alltypes) {
-                allFields = type.getFields();
-                for (PsiField field : allFields) {
-                    processAnnotations(field, type, diagnostics);
-                }
-                allMethods = type.getMethods();
-                for (PsiMethod method : allMethods) {
-                    processAnnotations(method, type, diagnostics);
-                }
-            }
-        }
+    @Override
+    protected boolean isTraversalCollector() {
+        return true;
+    }
+
+    @Override
+    protected void visitField(PsiJavaFile unit, PsiClass type, PsiField field, AnnotationIndex annotationIndex,
+                              List<Diagnostic> diagnostics) {
+        processAnnotations(field, type, annotationIndex, diagnostics);
+    }
+
+    @Override
+    protected void visitMethod(PsiJavaFile unit, PsiClass type, PsiMethod method, AnnotationIndex annotationIndex,
+                               List<Diagnostic> diagnostics) {
+        processAnnotations(method, type, annotationIndex, diagnostics);
     }
 
-    private void processAnnotations(PsiJvmModifiersOwner psiModifierOwner, PsiClass type, List<Diagnostic> diagnostics) {
-        PsiAnnotation[] annotations = psiModifierOwner.getAnnotations();
-        for (PsiAnnotation annotation : annotations) {
-            String matchedAnnotation = getMatchedJavaElementName(type, annotation.getQualifiedName(),
-                    SET_OF_ANNOTATIONS.toArray(new String[0]));
+    private void processAnnotations(PsiJvmModifiersOwner psiModifierOwner, PsiClass type,
+                                    AnnotationIndex annotationIndex, List<Diagnostic> diagnostics) {
+        for (String annotationName : annotationIndex.getAnnotationNames(psiModifierOwner)) {
+            String matchedAnnotation = getMatchedJavaElementName(type, annotationName,
+                    CONSTRAINT_ANNOTATIONS);
             if (matchedAnnotation != null) {
-                validAnnotation(psiModifierOwner, annotation, matchedAnnotation, diagnostics);
+                validAnnotation(psiModifierOwner, annotationName, matchedAnnotation, diagnostics);
             }
         }
     }
 
-    private void validAnnotation(PsiElement element, PsiAnnotation annotation, String matchedAnnotation,
+    private void validAnnotation(PsiElement element, String annotationName, String matchedAnnotation,
                                  List<Diagnostic> diagnostics) {
         if (element != null) {
-            String annotationName = annotation.getQualifiedName();
             boolean isMethod = element instanceof PsiMethod;
 
             if (((PsiModifierListOwner)element).hasModifierProperty(PsiModifier.STATIC)) {
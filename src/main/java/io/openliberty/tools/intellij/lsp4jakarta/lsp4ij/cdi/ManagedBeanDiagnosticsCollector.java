@@ -17,10 +17,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.stream.Stream;
 
 import com.intellij.psi.*;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AnnotationIndex;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
@@ -33,6 +33,10 @@ import static io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.cdi.ManagedBeanCo
 
 public class ManagedBeanDiagnosticsCollector extends AbstractDiagnosticsCollector {
 
+    private static final String[] SCOPE_ANNOTATIONS = SCOPE_FQ_NAMES.toArray(String[]::new);
+
+    private static final String[] INJECT_ANNOTATIONS = { PRODUCES_FQ_NAME, INJECT_FQ_NAME };
+
     public ManagedBeanDiagnosticsCollector() {
         super();
     }
@@ -43,307 +47,310 @@ public class ManagedBeanDiagnosticsCollector extends AbstractDiagnosticsCollecto
     }
 
     @Override
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
-        if (unit == null)
-            return;
-
-        PsiClass[] types = unit.getClasses();
-        String[] scopeFQNames = SCOPE_FQ_NAMES.toArray(String[]::new);
-        for (PsiClass type : types) {
-            List<String> managedBeanAnnotations = getMatchedJavaElementNames(type, Stream.of(type.getAnnotations())
-                            .map(annotation -> annotation.getQualifiedName()).toArray(String[]::new),
-                    scopeFQNames);
-            boolean isManagedBean = managedBeanAnnotations.size() > 0;
-
-            if (managedBeanAnnotations.size() > 1) {
-                diagnostics.add(createDiagnostic(type, unit,
-                        Messages.getMessage("ScopeTypeAnnotationsManagedBean"),
-                        DIAGNOSTIC_CODE_SCOPEDECL, (JsonArray) (new Gson().toJsonTree(managedBeanAnnotations)),
-                        DiagnosticSeverity.Error));
-            }
-
-            String[] injectAnnotations = { PRODUCES_FQ_NAME, INJECT_FQ_NAME };
-            PsiField fields[] = type.getFields();
-            for (PsiField field : fields) {
-                String[] annotationNames = Stream.of(field.getAnnotations())
-                        .map(annotation -> annotation.getQualifiedName()).toArray(String[]::new);
-                List<String> fieldScopes = getMatchedJavaElementNames(type, annotationNames, scopeFQNames);
-
-                /**
-                 * If a managed bean has a non-static public field, it must have
-                 * scope @Dependent. If a managed bean with a non-static public field declares
-                 * any scope other than @Dependent, the container automatically detects the
-                 * problem and treats it as a definition error.
-                 *
-                 * https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#managed_beans
-                 */
-                if (isManagedBean
-                        && field.hasModifierProperty(PsiModifier.PUBLIC)
-                        && !field.hasModifierProperty(PsiModifier.STATIC)
-                        && !managedBeanAnnotations.contains(DEPENDENT_FQ_NAME)) {
-                    diagnostics.add(createDiagnostic(field, unit,
-                            Messages.getMessage("ManagedBeanWithNonStaticPublicField"),
-                            DIAGNOSTIC_CODE, null,
-                            DiagnosticSeverity.Error));
-                }
-
-                /**
-                 * https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_bean_scope
-                 * A bean class or producer method or field may specify at most one scope type
-                 * annotation. If a bean class or producer method or field specifies multiple
-                 * scope type annotations, the container automatically detects the problem and
-                 * treats it as a definition error.
-                 *
-                 * Here we only look at the fields.
-                 */
-                List<String> fieldInjects = getMatchedJavaElementNames(type, annotationNames, injectAnnotations);
-                boolean isProducerField = false, isInjectField = false;
-                for (String annotation : fieldInjects) {
-                    if (PRODUCES_FQ_NAME.equals(annotation))
-                        isProducerField = true;
-                    else if (INJECT_FQ_NAME.equals(annotation))
-                        isInjectField = true;
-                }
-                if (isProducerField && fieldScopes.size() > 1) {
-                    fieldScopes.add(PRODUCES_FQ_NAME);
-                    diagnostics.add(createDiagnostic(field, unit,
-                            Messages.getMessage("ScopeTypeAnnotationsProducerField"),
-                            DIAGNOSTIC_CODE_SCOPEDECL, (JsonArray) (new Gson().toJsonTree(fieldScopes)),
-                            DiagnosticSeverity.Error));
-                }
+    protected boolean isTraversalCollector() {
+        return true;
+    }
 
-                if (isProducerField && isInjectField) {
-                    /*
-                     * ========= Produces and Inject Annotations Checks =========
-                     *
-                     * go through each field and method to make sure @Produces and @Inject are not used together
-                     *
-                     * see: https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_producer_field
-                     * https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_producer_method
-                     * https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_injected_field
-                     * https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_initializer
-                     */
-
-                    // A single field cannot have the same
-                    diagnostics.add(createDiagnostic(field, unit,
-                            Messages.getMessage("ManagedBeanProducesAndInject"),
-                            ManagedBeanConstants.DIAGNOSTIC_CODE_PRODUCES_INJECT, null, DiagnosticSeverity.Error));
-                }
+    @Override
+    protected void visitType(PsiJavaFile unit, PsiClass type, AnnotationIndex annotationIndex,
+                             List<Diagnostic> diagnostics) {
+        List<String> managedBeanAnnotations = getManagedBeanAnnotations(type, annotationIndex);
+        boolean isManagedBean = managedBeanAnnotations.size() > 0;
+
+        if (managedBeanAnnotations.size() > 1) {
+            diagnostics.add(createDiagnostic(type, unit,
+                    Messages.getMessage("ScopeTypeAnnotationsManagedBean"),
+                    DIAGNOSTIC_CODE_SCOPEDECL, (JsonArray) (new Gson().toJsonTree(managedBeanAnnotations)),
+                    DiagnosticSeverity.Error));
+        }
 
+        /**
+         * If a managed bean class is of generic type, it must be annotated with @Dependent
+         */
+        if (isManagedBean) {
+            boolean isClassGeneric = type.getTypeParameters().length != 0;
+            boolean isDependent = managedBeanAnnotations.stream()
+                    .anyMatch(annotation -> DEPENDENT_FQ_NAME.equals(annotation));
+
+            if (isClassGeneric && !isDependent) {
+                diagnostics.add(createDiagnostic(type, unit, Messages.getMessage("ManagedBeanGenericType"),
+                        DIAGNOSTIC_CODE, null, DiagnosticSeverity.Error));
             }
+        }
+    }
 
-            PsiMethod[] methods = type.getMethods();
-            List<PsiMethod> constructorMethods = new ArrayList<PsiMethod>();
-            for (PsiMethod method : methods) {
-
-                // Find all methods on the type that are constructors.
-                if (isConstructorMethod(method))
-                    constructorMethods.add(method);
-
-                /**
-                 * https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_bean_scope
-                 * A bean class or producer method or field may specify at most one scope type
-                 * annotation. If a bean class or producer method or field specifies multiple
-                 * scope type annotations, the container automatically detects the problem and
-                 * treats it as a definition error.
-                 *
-                 * Here we only look at the methods.
-                 */
-                String[] annotationNames = Stream.of(method.getAnnotations())
-                        .map(annotation -> annotation.getQualifiedName()).toArray(String[]::new);
-                List<String> methodScopes = getMatchedJavaElementNames(type, annotationNames, scopeFQNames);
-                List<String> methodInjects = getMatchedJavaElementNames(type, annotationNames, injectAnnotations);
-                boolean isProducerMethod = false, isInjectMethod = false;
-                for (String annotation : methodInjects) {
-                    if (PRODUCES_FQ_NAME.equals(annotation))
-                        isProducerMethod = true;
-                    else if (INJECT_FQ_NAME.equals(annotation))
-                        isInjectMethod = true;
-                }
+    @Override
+    protected void visitField(PsiJavaFile unit, PsiClass type, PsiField field, AnnotationIndex annotationIndex,
+                              List<Diagnostic> diagnostics) {
+        List<String> managedBeanAnnotations = getManagedBeanAnnotations(type, annotationIndex);
+        boolean isManagedBean = managedBeanAnnotations.size() > 0;
+
+        String[] annotationNames = annotationIndex.getAnnotationNames(field);
+        List<String> fieldScopes = getMatchedJavaElementNames(type, annotationNames, SCOPE_ANNOTATIONS);
+
+        /**
+         * If a managed bean has a non-static public field, it must have
+         * scope @Dependent. If a managed bean with a non-static public field declares
+         * any scope other than @Dependent, the container automatically detects the
+         * problem and treats it as a definition error.
+         *
+         * https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#managed_beans
+         */
+        if (isManagedBean
+                && field.hasModifierProperty(PsiModifier.PUBLIC)
+                && !field.hasModifierProperty(PsiModifier.STATIC)
+                && !managedBeanAnnotations.contains(DEPENDENT_FQ_NAME)) {
+            diagnostics.add(createDiagnostic(field, unit,
+                    Messages.getMessage("ManagedBeanWithNonStaticPublicField"),
+                    DIAGNOSTIC_CODE, null,
+                    DiagnosticSeverity.Error));
+        }
 
-                if (isProducerMethod && methodScopes.size() > 1) {
-                    methodScopes.add(PRODUCES_FQ_NAME);
-                    diagnostics.add(createDiagnostic(method, unit,
-                            Messages.getMessage("ScopeTypeAnnotationsProducerMethod"),
-                            DIAGNOSTIC_CODE_SCOPEDECL, (JsonArray) (new Gson().toJsonTree(methodScopes)),
-                            DiagnosticSeverity.Error));
-                }
+        /**
+         * https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_bean_scope
+         * A bean class or producer method or field may specify at most one scope type
+         * annotation. If a bean class or producer method or field specifies multiple
+         * scope type annotations, the container automatically detects the problem and
+         * treats it as a definition error.
+         *
+         * Here we only look at the fields.
+         */
+        List<String> fieldInjects = getMatchedJavaElementNames(type, annotationNames, INJECT_ANNOTATIONS);
+        boolean isProducerField = false, isInjectField = false;
+        for (String annotation : fieldInjects) {
+            if (PRODUCES_FQ_NAME.equals(annotation))
+                isProducerField = true;
+            else if (INJECT_FQ_NAME.equals(annotation))
+                isInjectField = true;
+        }
+        if (isProducerField && fieldScopes.size() > 1) {
+            fieldScopes.add(PRODUCES_FQ_NAME);
+            diagnostics.add(createDiagnostic(field, unit,
+                    Messages.getMessage("ScopeTypeAnnotationsProducerField"),
+                    DIAGNOSTIC_CODE_SCOPEDECL, (JsonArray) (new Gson().toJsonTree(fieldScopes)),
+                    DiagnosticSeverity.Error));
+        }
 
-                if (isProducerMethod && isInjectMethod) {
-                    /*
-                     * ========= Produces and Inject Annotations Checks =========
-                     *
-                     * go through each field and method to make sure @Produces and @Inject are not used together
-                     *
-                     * see: https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_producer_field
-                     * https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_producer_method
-                     * https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_injected_field
-                     * https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_initializer
-                     */
-
-                    // A single method cannot have the same
-                    diagnostics.add(createDiagnostic(method, unit,
-                            Messages.getMessage("ManagedBeanProducesAndInject"),
-                            ManagedBeanConstants.DIAGNOSTIC_CODE_PRODUCES_INJECT, null, DiagnosticSeverity.Error));
-                }
+        if (isProducerField && isInjectField) {
+            /*
+             * ========= Produces and Inject Annotations Checks =========
+             *
+             * go through each field and method to make sure @Produces and @Inject are not used together
+             *
+             * see: https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_producer_field
+             * https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_producer_method
+             * https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_injected_field
+             * https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_initializer
+             */
 
-            }
+            // A single field cannot have the same
+            diagnostics.add(createDiagnostic(field, unit,
+                    Messages.getMessage("ManagedBeanProducesAndInject"),
+                    ManagedBeanConstants.DIAGNOSTIC_CODE_PRODUCES_INJECT, null, DiagnosticSeverity.Error));
+        }
+    }
 
-            if (isManagedBean && constructorMethods.size() > 0) {
-                /**
-                 * If the managed bean does not have a constructor that takes no parameters, it
-                 * must have a constructor annotated @Inject. No additional special annotations
-                 * are required.
-                 */
-
-                // If there are no constructor methods, there is an implicit empty constructor
-                // generated by the compiler.
-                List<PsiMethod> methodsNeedingDiagnostics = new ArrayList<PsiMethod>();
-                for (PsiMethod m : constructorMethods) {
-                    if (m.getParameterList().getParametersCount() == 0) {
-                        methodsNeedingDiagnostics.clear();
-                        break;
-                    }
-                    PsiAnnotation[] annotations = m.getAnnotations();
-                    boolean hasParameterizedInjectConstructor = false;
-                    // look up '@Inject' annotation
-                    for (PsiAnnotation annotation : annotations) {
-                        if (isMatchedJavaElement(type, annotation.getQualifiedName(), INJECT_FQ_NAME)) {
-                            hasParameterizedInjectConstructor = true;
-                            break;
-                        }
-                    }
-                    if (hasParameterizedInjectConstructor) {
-                        methodsNeedingDiagnostics.clear();
-                        break;
-                    } else
-                        methodsNeedingDiagnostics.add(m);
-                }
+    @Override
+    protected void visitMethod(PsiJavaFile unit, PsiClass type, PsiMethod method, AnnotationIndex annotationIndex,
+                               List<Diagnostic> diagnostics) {
+        /**
+         * https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_bean_scope
+         * A bean class or producer method or field may specify at most one scope type
+         * annotation. If a bean class or producer method or field specifies multiple
+         * scope type annotations, the container automatically detects the problem and
+         * treats it as a definition error.
+         *
+         * Here we only look at the methods.
+         */
+        String[] annotationNames = annotationIndex.getAnnotationNames(method);
+        List<String> methodScopes = getMatchedJavaElementNames(type, annotationNames, SCOPE_ANNOTATIONS);
+        List<String> methodInjects = getMatchedJavaElementNames(type, annotationNames, INJECT_ANNOTATIONS);
+        boolean isProducerMethod = false, isInjectMethod = false;
+        for (String annotation : methodInjects) {
+            if (PRODUCES_FQ_NAME.equals(annotation))
+                isProducerMethod = true;
+            else if (INJECT_FQ_NAME.equals(annotation))
+                isInjectMethod = true;
+        }
 
-                // Deliver a diagnostic on all parameterized constructors that they must add an
-                // @Inject annotation
-                for (PsiMethod m : methodsNeedingDiagnostics) {
-                    diagnostics.add(createDiagnostic(m, unit, Messages.getMessage("ManagedBeanConstructorWithParameters"),
-                            CONSTRUCTOR_DIAGNOSTIC_CODE, null, DiagnosticSeverity.Error));
-                }
-            }
+        if (isProducerMethod && methodScopes.size() > 1) {
+            methodScopes.add(PRODUCES_FQ_NAME);
+            diagnostics.add(createDiagnostic(method, unit,
+                    Messages.getMessage("ScopeTypeAnnotationsProducerMethod"),
+                    DIAGNOSTIC_CODE_SCOPEDECL, (JsonArray) (new Gson().toJsonTree(methodScopes)),
+                    DiagnosticSeverity.Error));
+        }
 
-            /**
-             * If a managed bean class is of generic type, it must be annotated with @Dependent
+        if (isProducerMethod && isInjectMethod) {
+            /*
+             * ========= Produces and Inject Annotations Checks =========
+             *
+             * go through each field and method to make sure @Produces and @Inject are not used together
+             *
+             * see: https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_producer_field
+             * https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_producer_method
+             * https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_injected_field
+             * https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_initializer
              */
-            if (isManagedBean) {
-                boolean isClassGeneric = type.getTypeParameters().length != 0;
-                boolean isDependent = managedBeanAnnotations.stream()
-                        .anyMatch(annotation -> DEPENDENT_FQ_NAME.equals(annotation));
-
-                if (isClassGeneric && !isDependent) {
-                    diagnostics.add(createDiagnostic(type, unit, Messages.getMessage("ManagedBeanGenericType"),
-                            DIAGNOSTIC_CODE, null, DiagnosticSeverity.Error));
-                }
-            }
 
+            // A single method cannot have the same
+            diagnostics.add(createDiagnostic(method, unit,
+                    Messages.getMessage("ManagedBeanProducesAndInject"),
+                    ManagedBeanConstants.DIAGNOSTIC_CODE_PRODUCES_INJECT, null, DiagnosticSeverity.Error));
+        }
+
+        /*
+         * ========= Inject and Disposes, Observes, ObservesAsync Annotations Checks=========
+         */
+        /*
+         * make sure @Inject
+         * and @Disposes, @Observes, @ObservesAsync are not used together
+         *
+         * see: https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_bean_constructor
+         * https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_initializer
+         *
+         */
+        invalidParamsCheck(unit, diagnostics, type, method, annotationIndex, INJECT_FQ_NAME,
+                ManagedBeanConstants.DIAGNOSTIC_CODE_INVALID_INJECT_PARAM);
+
+        if (!getManagedBeanAnnotations(type, annotationIndex).isEmpty()) {
             /*
-             * ========= Inject and Disposes, Observes, ObservesAsync Annotations Checks=========
+             * ========= Produces and Disposes, Observes, ObservesAsync Annotations Checks=========
              */
             /*
-             * go through each method to make sure @Inject
+             * make sure @Produces
              * and @Disposes, @Observes, @ObservesAsync are not used together
              *
-             * see: https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_bean_constructor
-             * https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_initializer
+             * see: https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_producer_method
+             *
+             * note:
+             * we need to check for bean defining annotations first to make sure the managed bean is discovered.
              *
              */
-            invalidParamsCheck(unit, diagnostics, type, INJECT_FQ_NAME,
-                    ManagedBeanConstants.DIAGNOSTIC_CODE_INVALID_INJECT_PARAM);
-
-            if (isManagedBean) {
-                /*
-                 * ========= Produces and Disposes, Observes, ObservesAsync Annotations Checks=========
-                 */
-                /*
-                 * go through each method to make sure @Produces
-                 * and @Disposes, @Observes, @ObservesAsync are not used together
-                 *
-                 * see: https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_producer_method
-                 *
-                 * note:
-                 * we need to check for bean defining annotations first to make sure the managed bean is discovered.
-                 *
-                 */
-                invalidParamsCheck(unit, diagnostics, type, PRODUCES_FQ_NAME,
-                        ManagedBeanConstants.DIAGNOSTIC_CODE_INVALID_PRODUCES_PARAM);
-
-                for (PsiMethod method : methods) {
-                    int numDisposes = 0;
-                    Set<String> invalidAnnotations = new TreeSet<>();
-                    PsiParameter[] params = method.getParameterList().getParameters();
-
-                    for (PsiParameter param : params) {
-                        PsiAnnotation[] annotations = param.getAnnotations();
-                        for (PsiAnnotation annotation : annotations) {
-                            String matchedAnnotation = getMatchedJavaElementName(type, annotation.getQualifiedName(),
-                                    INVALID_INJECT_PARAMS_FQ);
-                            if (DISPOSES_FQ_NAME.equals(matchedAnnotation)) {
-                                numDisposes++;
-                            } else if (OBSERVES_FQ_NAME.equals(matchedAnnotation)
-                                    || OBSERVES_ASYNC_FQ_NAME.equals(matchedAnnotation)) {
-                                invalidAnnotations.add("@" + annotation.getQualifiedName());
-                            }
-                        }
-                    }
+            invalidParamsCheck(unit, diagnostics, type, method, annotationIndex, PRODUCES_FQ_NAME,
+                    ManagedBeanConstants.DIAGNOSTIC_CODE_INVALID_PRODUCES_PARAM);
 
-                    if(numDisposes == 0) continue;
-                    if(numDisposes > 1) {
-                        diagnostics.add(createDiagnostic(method, unit,
-                                Messages.getMessage("ManagedBeanDisposeOneParameter"),
-                                ManagedBeanConstants.DIAGNOSTIC_CODE_REDUNDANT_DISPOSES, null,
-                                DiagnosticSeverity.Error));
-                    }
+            int numDisposes = 0;
+            Set<String> invalidAnnotations = new TreeSet<>();
+            PsiParameter[] params = method.getParameterList().getParameters();
 
-                    if(!invalidAnnotations.isEmpty()) {
-                        diagnostics.add(createDiagnostic(method, unit,
-                                createInvalidDisposesLabel(invalidAnnotations),
-                                ManagedBeanConstants.DIAGNOSTIC_CODE_INVALID_DISPOSES_PARAM, null,
-                                DiagnosticSeverity.Error));
+            for (PsiParameter param : params) {
+                for (String annotationName : annotationIndex.getAnnotationNames(param)) {
+                    String matchedAnnotation = getMatchedJavaElementName(type, annotationName,
+                            INVALID_INJECT_PARAMS_FQ);
+                    if (DISPOSES_FQ_NAME.equals(matchedAnnotation)) {
+                        numDisposes++;
+                    } else if (OBSERVES_FQ_NAME.equals(matchedAnnotation)
+                            || OBSERVES_ASYNC_FQ_NAME.equals(matchedAnnotation)) {
+                        invalidAnnotations.add("@" + annotationName);
                     }
                 }
             }
+
+            if(numDisposes == 0) return;
+            if(numDisposes > 1) {
+                diagnostics.add(createDiagnostic(method, unit,
+                        Messages.getMessage("ManagedBeanDisposeOneParameter"),
+                        ManagedBeanConstants.DIAGNOSTIC_CODE_REDUNDANT_DISPOSES, null,
+                        DiagnosticSeverity.Error));
+            }
+
+            if(!invalidAnnotations.isEmpty()) {
+                diagnostics.add(createDiagnostic(method, unit,
+                        createInvalidDisposesLabel(invalidAnnotations),
+                        ManagedBeanConstants.DIAGNOSTIC_CODE_INVALID_DISPOSES_PARAM, null,
+                        DiagnosticSeverity.Error));
+            }
         }
     }
 
-    private void invalidParamsCheck(PsiJavaFile unit, List<Diagnostic> diagnostics, PsiClass type, String target,
-                                    String diagnosticCode) {
+    @Override
+    protected void endType(PsiJavaFile unit, PsiClass type, AnnotationIndex annotationIndex,
+                           List<Diagnostic> diagnostics) {
+        if (getManagedBeanAnnotations(type, annotationIndex).isEmpty()) {
+            return;
+        }
+
+        // Find all methods on the type that are constructors.
+        List<PsiMethod> constructorMethods = new ArrayList<PsiMethod>();
         for (PsiMethod method : type.getMethods()) {
-            PsiAnnotation targetAnnotation = null;
+            if (isConstructorMethod(method))
+                constructorMethods.add(method);
+        }
+
+        if (constructorMethods.size() > 0) {
+            /**
+             * If the managed bean does not have a constructor that takes no parameters, it
+             * must have a constructor annotated @Inject. No additional special annotations
+             * are required.
+             */
 
-            for (PsiAnnotation annotation : method.getAnnotations()) {
-                if (isMatchedJavaElement(type, annotation.getQualifiedName(), target)) {
-                    targetAnnotation = annotation;
+            // If there are no constructor methods, there is an implicit empty constructor
+            // generated by the compiler.
+            List<PsiMethod> methodsNeedingDiagnostics = new ArrayList<PsiMethod>();
+            for (PsiMethod m : constructorMethods) {
+                if (m.getParameterList().getParametersCount() == 0) {
+                    methodsNeedingDiagnostics.clear();
                     break;
                 }
+                boolean hasParameterizedInjectConstructor = false;
+                // look up '@Inject' annotation
+                for (String annotationName : annotationIndex.getAnnotationNames(m)) {
+                    if (isMatchedJavaElement(type, annotationName, INJECT_FQ_NAME)) {
+                        hasParameterizedInjectConstructor = true;
+                        break;
+                    }
+                }
+                if (hasParameterizedInjectConstructor) {
+                    methodsNeedingDiagnostics.clear();
+                    break;
+                } else
+                    methodsNeedingDiagnostics.add(m);
             }
 
-            if (targetAnnotation == null)
-                continue;
+            // Deliver a diagnostic on all parameterized constructors that they must add an
+            // @Inject annotation
+            for (PsiMethod m : methodsNeedingDiagnostics) {
+                diagnostics.add(createDiagnostic(m, unit, Messages.getMessage("ManagedBeanConstructorWithParameters"),
+                        CONSTRUCTOR_DIAGNOSTIC_CODE, null, DiagnosticSeverity.Error));
+            }
+        }
+    }
+
+    private List<String> getManagedBeanAnnotations(PsiClass type, AnnotationIndex annotationIndex) {
+        return getMatchedJavaElementNames(type, annotationIndex.getAnnotationNames(type),
+                SCOPE_ANNOTATIONS);
+    }
 
-            Set<String> invalidAnnotations = new TreeSet<>();
-            PsiParameter[] params = method.getParameterList().getParameters();
-            for (PsiParameter param : params) {
-                List<String> paramScopes = getMatchedJavaElementNames(type, Stream.of(param.getAnnotations())
-                                .map(annotation -> annotation.getQualifiedName()).toArray(String[]::new),
-                        INVALID_INJECT_PARAMS_FQ);
-                for (String annotation : paramScopes) {
-                    invalidAnnotations.add("@" + getSimpleName(annotation));
-                }
+    private void invalidParamsCheck(PsiJavaFile unit, List<Diagnostic> diagnostics, PsiClass type, PsiMethod method,
+                                    AnnotationIndex annotationIndex, String target, String diagnosticCode) {
+        String targetAnnotation = null;
+
+        for (String annotationName : annotationIndex.getAnnotationNames(method)) {
+            if (isMatchedJavaElement(type, annotationName, target)) {
+                targetAnnotation = annotationName;
+                break;
             }
+        }
 
-            if (!invalidAnnotations.isEmpty()) {
-                String label = PRODUCES_FQ_NAME.equals(target) ?
-                        createInvalidProducesLabel(invalidAnnotations) :
-                        createInvalidInjectLabel(invalidAnnotations);
-                diagnostics.add(createDiagnostic(method, unit, label, diagnosticCode, null, DiagnosticSeverity.Error));
+        if (targetAnnotation == null)
+            return;
+
+        Set<String> invalidAnnotations = new TreeSet<>();
+        PsiParameter[] params = method.getParameterList().getParameters();
+        for (PsiParameter param : params) {
+            List<String> paramScopes = getMatchedJavaElementNames(type, annotationIndex.getAnnotationNames(param),
+                    INVALID_INJECT_PARAMS_FQ);
+            for (String annotation : paramScopes) {
+                invalidAnnotations.add("@" + getSimpleName(annotation));
             }
+        }
 
+        if (!invalidAnnotations.isEmpty()) {
+            String label = PRODUCES_FQ_NAME.equals(target) ?
+                    createInvalidProducesLabel(invalidAnnotations) :
+                    createInvalidInjectLabel(invalidAnnotations);
+            diagnostics.add(createDiagnostic(method, unit, label, diagnosticCode, null, DiagnosticSeverity.Error));
         }
     }
 
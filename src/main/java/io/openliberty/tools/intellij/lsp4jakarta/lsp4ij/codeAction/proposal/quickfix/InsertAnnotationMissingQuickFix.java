@@ -115,8 +115,7 @@ public abstract class InsertAnnotationMissingQuickFix implements IJavaCodeAction
             insertAnnotation(diagnostic, context, codeActions, annotations);
         } else {
             for (String annotation : annotations) {
-                JavaCodeActionContext annotationContext = context.copy();
-                insertAnnotation(diagnostic, annotationContext, codeActions, annotation);
+                insertAnnotation(diagnostic, context, codeActions, annotation);
             }
         }
     }
@@ -84,9 +84,8 @@ public abstract class RemoveModifierConflictQuickFix implements IJavaCodeActionP
         if (generateOnlyOneCodeAction || modifiers.length == 1) {
             removeModifier(diagnostic, context, codeActions, modifiers);
         } else {
-            // Clone the psi.FileViewProvider for each CodeAction.
             for (String modifier : modifiers) {
-                removeModifier(diagnostic, context.copy(), codeActions, modifier);
+                removeModifier(diagnostic, context, codeActions, modifier);
             }
         }
     }
@@ -16,6 +16,7 @@ package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.di;
 
 import com.intellij.psi.*;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AnnotationIndex;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
@@ -52,77 +53,82 @@ public class DependencyInjectionDiagnosticsCollector extends AbstractDiagnostics
     }
 
     @Override
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
-        if (unit == null)
-            return;
-
-        PsiClass[] alltypes;
-        alltypes = unit.getClasses();
-        for (PsiClass type : alltypes) {
-            PsiField[] allFields = type.getFields();
-            for (PsiField field : allFields) {
-                if (field.hasModifierProperty(PsiModifier.FINAL)
-                        && containsAnnotation(type, field.getAnnotations(), INJECT_FQ_NAME)) {
-                    String msg = Messages.getMessage("InjectNoFinalField");
-                    diagnostics.add(createDiagnostic(field, unit, msg,
-                            DIAGNOSTIC_CODE_INJECT_FINAL, field.getType().getInternalCanonicalText(),
-                            DiagnosticSeverity.Error));
-                }
+    protected boolean isTraversalCollector() {
+        return true;
+    }
+
+    @Override
+    protected void visitField(PsiJavaFile unit, PsiClass type, PsiField field, AnnotationIndex annotationIndex,
+                              List<Diagnostic> diagnostics) {
+        if (field.hasModifierProperty(PsiModifier.FINAL)
+                && containsAnnotation(type, annotationIndex.getAnnotationNames(field), INJECT_FQ_NAME)) {
+            String msg = Messages.getMessage("InjectNoFinalField");
+            diagnostics.add(createDiagnostic(field, unit, msg,
+                    DIAGNOSTIC_CODE_INJECT_FINAL, field.getType().getInternalCanonicalText(),
+                    DiagnosticSeverity.Error));
+        }
+    }
+
+    @Override
+    protected void visitMethod(PsiJavaFile unit, PsiClass type, PsiMethod method, AnnotationIndex annotationIndex,
+                               List<Diagnostic> diagnostics) {
+        boolean isFinal = method.hasModifierProperty(PsiModifier.FINAL);
+        boolean isAbstract = method.hasModifierProperty(PsiModifier.ABSTRACT);
+        boolean isStatic = method.hasModifierProperty(PsiModifier.STATIC);
+        boolean isGeneric = method.hasTypeParameters();
+
+        if (containsAnnotation(type, annotationIndex.getAnnotationNames(method), INJECT_FQ_NAME)) {
+            if (isFinal) {
+                String msg = Messages.getMessage("InjectNoFinalMethod");
+                diagnostics.add(createDiagnostic(method, unit, msg,
+                        DIAGNOSTIC_CODE_INJECT_FINAL, method.getReturnType().getInternalCanonicalText(),
+                        DiagnosticSeverity.Error));
+            }
+            if (isAbstract) {
+                String msg = Messages.getMessage("InjectNoAbstractMethod");
+                diagnostics.add(createDiagnostic(method, unit, msg,
+                        DIAGNOSTIC_CODE_INJECT_ABSTRACT, method.getReturnType().getInternalCanonicalText(),
+                        DiagnosticSeverity.Error));
+            }
+            if (isStatic) {
+                String msg = Messages.getMessage("InjectNoStaticMethod");
+                diagnostics.add(createDiagnostic(method, unit, msg,
+                        DIAGNOSTIC_CODE_INJECT_STATIC, method.getReturnType().getInternalCanonicalText(),
+                        DiagnosticSeverity.Error));
             }
 
-            List<PsiMethod> injectedConstructors = new ArrayList<PsiMethod>();
-            PsiMethod[] allMethods = type.getMethods();
-            for (PsiMethod method : allMethods) {
-                boolean isFinal = method.hasModifierProperty(PsiModifier.FINAL);
-                boolean isAbstract = method.hasModifierProperty(PsiModifier.ABSTRACT);
-                boolean isStatic = method.hasModifierProperty(PsiModifier.STATIC);
-                boolean isGeneric = method.hasTypeParameters();
-
-                if (containsAnnotation(type, method.getAnnotations(), INJECT_FQ_NAME)) {
-                    if (isConstructorMethod(method))
-                        injectedConstructors.add(method);
-                    if (isFinal) {
-                        String msg = Messages.getMessage("InjectNoFinalMethod");
-                        diagnostics.add(createDiagnostic(method, unit, msg,
-                                DIAGNOSTIC_CODE_INJECT_FINAL, method.getReturnType().getInternalCanonicalText(),
-                                DiagnosticSeverity.Error));
-                    }
-                    if (isAbstract) {
-                        String msg = Messages.getMessage("InjectNoAbstractMethod");
-                        diagnostics.add(createDiagnostic(method, unit, msg,
-                                DIAGNOSTIC_CODE_INJECT_ABSTRACT, method.getReturnType().getInternalCanonicalText(),
-                                DiagnosticSeverity.Error));
-                    }
-                    if (isStatic) {
-                        String msg = Messages.getMessage("InjectNoStaticMethod");
-                        diagnostics.add(createDiagnostic(method, unit, msg,
-                                DIAGNOSTIC_CODE_INJECT_STATIC, method.getReturnType().getInternalCanonicalText(),
-                                DiagnosticSeverity.Error));
-                    }
-
-                    if (isGeneric) {
-                        String msg = Messages.getMessage("InjectNoGenericMethod");
-                        diagnostics.add(createDiagnostic(method, unit, msg,
-                                DIAGNOSTIC_CODE_INJECT_GENERIC, method.getReturnType().getInternalCanonicalText(),
-                                DiagnosticSeverity.Error));
-                    }
-                }
+            if (isGeneric) {
+                String msg = Messages.getMessage("InjectNoGenericMethod");
+                diagnostics.add(createDiagnostic(method, unit, msg,
+                        DIAGNOSTIC_CODE_INJECT_GENERIC, method.getReturnType().getInternalCanonicalText(),
+                        DiagnosticSeverity.Error));
             }
+        }
+    }
+
+    @Override
+    protected void endType(PsiJavaFile unit, PsiClass type, AnnotationIndex annotationIndex,
+                           List<Diagnostic> diagnostics) {
+        List<PsiMethod> injectedConstructors = new ArrayList<PsiMethod>();
+        for (PsiMethod method : type.getMethods()) {
+            if (isConstructorMethod(method)
+                    && containsAnnotation(type, annotationIndex.getAnnotationNames(method), INJECT_FQ_NAME))
+                injectedConstructors.add(method);
+        }
 
-            // if more than one 'inject' constructor, add diagnostic to all constructors
-            if (injectedConstructors.size() > 1) {
-                String msg = Messages.getMessage("InjectMoreThanOneConstructor");
-                for (PsiMethod m : injectedConstructors) {
-                    diagnostics.add(createDiagnostic(m, unit, msg,
-                            DIAGNOSTIC_CODE_INJECT_CONSTRUCTOR, null, DiagnosticSeverity.Error));
-                }
+        // if more than one 'inject' constructor, add diagnostic to all constructors
+        if (injectedConstructors.size() > 1) {
+            String msg = Messages.getMessage("InjectMoreThanOneConstructor");
+            for (PsiMethod m : injectedConstructors) {
+                diagnostics.add(createDiagnostic(m, unit, msg,
+                        DIAGNOSTIC_CODE_INJECT_CONSTRUCTOR, null, DiagnosticSeverity.Error));
             }
         }
     }
 
-    private boolean containsAnnotation(PsiClass type, PsiAnnotation[] annotations, String annotationFQName) {
-        return Stream.of(annotations).anyMatch(annotation -> {
-                return isMatchedJavaElement(type, annotation.getQualifiedName(), annotationFQName);
+    private boolean containsAnnotation(PsiClass type, String[] annotationNames, String annotationFQName) {
+        return Stream.of(annotationNames).anyMatch(annotationName -> {
+                return isMatchedJavaElement(type, annotationName, annotationFQName);
         });
     }
 }
@@ -20,6 +20,7 @@ import java.util.Map;
 
 import com.intellij.psi.*;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AnnotationIndex;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
@@ -42,84 +43,80 @@ public class Jax_RSClassDiagnosticsCollector extends AbstractDiagnosticsCollecto
     }
 
     @Override
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
-
-        if (unit != null) {
-            PsiClass[] alltypes;
-
-            alltypes = unit.getClasses();
-            for (PsiClass type : alltypes) {
-                boolean isRootResource = false;
-                boolean isProviderResource = false;
-                PsiAnnotation[] annotationList = type.getAnnotations();
+    protected boolean isTraversalCollector() {
+        return true;
+    }
 
-                for (PsiAnnotation annotation : annotationList) {
-                    String matchedAnnotation = getMatchedJavaElementName(type, annotation.getQualifiedName(),
-                            Jax_RSConstants.SET_OF_JAXRS_ANNOTATIONS1);
-                    if (matchedAnnotation != null) {
-                        if (Jax_RSConstants.PATH_ANNOTATION.equals(matchedAnnotation)) {
-                            isRootResource = true;
-                        } else if (Jax_RSConstants.PROVIDER_ANNOTATION.equals(matchedAnnotation)) {
-                            isProviderResource = true;
-                        }
-                    }
+    @Override
+    protected void endType(PsiJavaFile unit, PsiClass type, AnnotationIndex annotationIndex,
+                           List<Diagnostic> diagnostics) {
+        boolean isRootResource = false;
+        boolean isProviderResource = false;
+        for (String annotationName : annotationIndex.getAnnotationNames(type)) {
+            String matchedAnnotation = getMatchedJavaElementName(type, annotationName,
+                    Jax_RSConstants.SET_OF_JAXRS_ANNOTATIONS1);
+            if (matchedAnnotation != null) {
+                if (Jax_RSConstants.PATH_ANNOTATION.equals(matchedAnnotation)) {
+                    isRootResource = true;
+                } else if (Jax_RSConstants.PROVIDER_ANNOTATION.equals(matchedAnnotation)) {
+                    isProviderResource = true;
                 }
+            }
+        }
 
-                if (isRootResource || isProviderResource) { // annotated class
-                    List<PsiMethod> nonPublicConstructors = new ArrayList<PsiMethod>();
-                    boolean hasPublicConstructor = false;
-                    int maxParams = 0;
-                    Map<PsiMethod, Integer> constructorParamsMap = new HashMap<PsiMethod, Integer>();
-                    PsiMethod[] methods = type.getMethods();
-                    for (PsiMethod method : methods) {
-                        if (isConstructorMethod(method)) {
-                            if (method.hasModifierProperty(PsiModifier.PUBLIC)) {
-                                hasPublicConstructor = true;
-                                nonPublicConstructors.clear(); // ignore all non-public constructors
-                                if (isRootResource) {
-                                    int numParams = method.getParameterList().getParametersCount();
-                                    if (numParams > maxParams) {
-                                        maxParams = numParams;
-                                    }
-                                    constructorParamsMap.put(method, numParams);
-                                }
-                            } else if (!hasPublicConstructor) {
-                                nonPublicConstructors.add(method);
+        if (isRootResource || isProviderResource) { // annotated class
+            List<PsiMethod> nonPublicConstructors = new ArrayList<PsiMethod>();
+            boolean hasPublicConstructor = false;
+            int maxParams = 0;
+            Map<PsiMethod, Integer> constructorParamsMap = new HashMap<PsiMethod, Integer>();
+            PsiMethod[] methods = type.getMethods();
+            for (PsiMethod method : methods) {
+                if (isConstructorMethod(method)) {
+                    if (method.hasModifierProperty(PsiModifier.PUBLIC)) {
+                        hasPublicConstructor = true;
+                        nonPublicConstructors.clear(); // ignore all non-public constructors
+                        if (isRootResource) {
+                            int numParams = method.getParameterList().getParametersCount();
+                            if (numParams > maxParams) {
+                                maxParams = numParams;
                             }
+                            constructorParamsMap.put(method, numParams);
                         }
+                    } else if (!hasPublicConstructor) {
+                        nonPublicConstructors.add(method);
                     }
-                    // no public constructor defined
-                    if (nonPublicConstructors.size() > 0) {
-                        String diagnosticMessage = isRootResource ?
-                                Messages.getMessage("RootResourceClasses") :
-                                Messages.getMessage("ProviderClasses");
-                        for (PsiMethod constructor : nonPublicConstructors) {
-                            diagnostics.add(createDiagnostic(constructor, unit, diagnosticMessage,
-                                    Jax_RSConstants.DIAGNOSTIC_CODE_NO_PUBLIC_CONSTRUCTORS, null,
-                                    DiagnosticSeverity.Error));
-                        }
-                    }
-                    // check public constructors' parameters
-                    ArrayList<PsiMethod> equalMaxParamMethods = new ArrayList<PsiMethod>();
-                    for (Map.Entry<PsiMethod, Integer> entry : constructorParamsMap.entrySet()) {
-                        if (entry.getValue() == maxParams) {
-                            equalMaxParamMethods.add(entry.getKey());
-                        } else if (entry.getValue() < maxParams) {
-                            PsiMethod method = entry.getKey();
-                            diagnostics.add(createDiagnostic(method, unit,
-                                    Messages.getMessage("ConstructorIsUnused"),
-                                    Jax_RSConstants.DIAGNOSTIC_CODE_UNUSED_CONSTRUCTOR, null,
-                                    DiagnosticSeverity.Warning));
-                        }
-                    }
-                    if (equalMaxParamMethods.size() > 1) { // more than one
-                        for (PsiMethod method : equalMaxParamMethods) {
-                            diagnostics.add(createDiagnostic(method, unit,
-                                    Messages.getMessage("MultipleConstructorsNumberOfParameters"),
-                                    Jax_RSConstants.DIAGNOSTIC_CODE_AMBIGUOUS_CONSTRUCTORS, null,
-                                    DiagnosticSeverity.Warning));
-                        }
-                    }
+                }
+            }
+            // no public constructor defined
+            if (nonPublicConstructors.size() > 0) {
+                String diagnosticMessage = isRootResource ?
+                        Messages.getMessage("RootResourceClasses") :
+                        Messages.getMessage("ProviderClasses");
+                for (PsiMethod constructor : nonPublicConstructors) {
+                    diagnostics.add(createDiagnostic(constructor, unit, diagnosticMessage,
+                            Jax_RSConstants.DIAGNOSTIC_CODE_NO_PUBLIC_CONSTRUCTORS, null,
+                            DiagnosticSeverity.Error));
+                }
+            }
+            // check public constructors' parameters
+            ArrayList<PsiMethod> equalMaxParamMethods = new ArrayList<PsiMethod>();
+            for (Map.Entry<PsiMethod, Integer> entry : constructorParamsMap.entrySet()) {
+                if (entry.getValue() == maxParams) {
+                    equalMaxParamMethods.add(entry.getKey());
+                } else if (entry.getValue() < maxParams) {
+                    PsiMethod method = entry.getKey();
+                    diagnostics.add(createDiagnostic(method, unit,
+                            Messages.getMessage("ConstructorIsUnused"),
+                            Jax_RSConstants.DIAGNOSTIC_CODE_UNUSED_CONSTRUCTOR, null,
+                            DiagnosticSeverity.Warning));
+                }
+            }
+            if (equalMaxParamMethods.size() > 1) { // more than one
+                for (PsiMethod method : equalMaxParamMethods) {
+                    diagnostics.add(createDiagnostic(method, unit,
+                            Messages.getMessage("MultipleConstructorsNumberOfParameters"),
+                            Jax_RSConstants.DIAGNOSTIC_CODE_AMBIGUOUS_CONSTRUCTORS, null,
+                            DiagnosticSeverity.Warning));
                 }
             }
         }
@@ -15,6 +15,7 @@ package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.jax_rs;
 
 import com.intellij.psi.*;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AnnotationIndex;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
 import org.apache.commons.lang3.ArrayUtils;
 import org.eclipse.lsp4j.Diagnostic;
@@ -24,6 +25,9 @@ import java.util.List;
 
 public class ResourceMethodDiagnosticsCollector extends AbstractDiagnosticsCollector {
 
+    private static final String[] METHOD_DESIGNATORS = ArrayUtils.addAll(
+            Jax_RSConstants.SET_OF_METHOD_DESIGNATORS_ANNOTATIONS, Jax_RSConstants.PATH_ANNOTATION);
+
     public ResourceMethodDiagnosticsCollector() {
         super();
     }
@@ -34,66 +38,55 @@ public class ResourceMethodDiagnosticsCollector extends AbstractDiagnosticsColle
     }
 
     @Override
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
-
-        if (unit != null) {
-            String[] methodDesignators = ArrayUtils.addAll(Jax_RSConstants.SET_OF_METHOD_DESIGNATORS_ANNOTATIONS,
-                    Jax_RSConstants.PATH_ANNOTATION);
-            PsiClass[] alltypes;
-            PsiMethod[] methods;
+    protected boolean isTraversalCollector() {
+        return true;
+    }
 
-            alltypes = unit.getClasses();
-            for (PsiClass type : alltypes) {
-                methods = type.getMethods();
-                for (PsiMethod method : methods) {
-                    PsiAnnotation[] methodAnnotations = method.getAnnotations();
-                    boolean isResourceMethod = false;
-                    boolean isValid = true;
-                    boolean isPublic = method.hasModifierProperty(PsiModifier.PUBLIC);
+    @Override
+    protected void visitMethod(PsiJavaFile unit, PsiClass type, PsiMethod method, AnnotationIndex annotationIndex,
+                               List<Diagnostic> diagnostics) {
+        boolean isResourceMethod = false;
+        boolean isValid = true;
+        boolean isPublic = method.hasModifierProperty(PsiModifier.PUBLIC);
 
-                    for (PsiAnnotation annotation : methodAnnotations) {
-                        String matchedAnnotation = getMatchedJavaElementName(type, annotation.getQualifiedName(),
-                                methodDesignators);
-                        if (matchedAnnotation != null) {
-                            if (isValid && !isPublic)
-                                isValid = false;
-                            if (!Jax_RSConstants.PATH_ANNOTATION.equals(matchedAnnotation)) {
-                                isResourceMethod = true;
-                                break;
-                            }
-                        }
-                    }
-                    if (!isValid) {
-                        diagnostics.add(createDiagnostic(method, unit,
-                                Messages.getMessage("OnlyPublicMethods"),
-                                Jax_RSConstants.DIAGNOSTIC_CODE_NON_PUBLIC, null, DiagnosticSeverity.Error));
-                    }
-                    if (isResourceMethod) {
-                        int numEntityParams = 0;
-                        PsiParameter[] parameters = method.getParameterList().getParameters();
-                        for (PsiParameter param : parameters) {
-                            boolean isEntityParam = true;
-                            PsiAnnotation[] annotations = param.getAnnotations();
-                            for (PsiAnnotation annotation : annotations) {
-                                String matchedAnnotation = getMatchedJavaElementName(type,
-                                        annotation.getQualifiedName(),
-                                        Jax_RSConstants.SET_OF_NON_ENTITY_PARAM_ANNOTATIONS);
-                                if (matchedAnnotation != null) {
-                                    isEntityParam = false;
-                                    break;
-                                }
-                            }
-                            if (isEntityParam)
-                                numEntityParams++;
-                        }
-                        if (numEntityParams > 1) {
-                            diagnostics.add(createDiagnostic(method, unit,
-                                    Messages.getMessage("ResourceMethodsEntityParameter"),
-                                    Jax_RSConstants.DIAGNOSTIC_CODE_MULTIPLE_ENTITY_PARAMS, null,
-                                    DiagnosticSeverity.Error));
-                        }
+        for (String annotationName : annotationIndex.getAnnotationNames(method)) {
+            String matchedAnnotation = getMatchedJavaElementName(type, annotationName,
+                    METHOD_DESIGNATORS);
+            if (matchedAnnotation != null) {
+                if (isValid && !isPublic)
+                    isValid = false;
+                if (!Jax_RSConstants.PATH_ANNOTATION.equals(matchedAnnotation)) {
+                    isResourceMethod = true;
+                    break;
+                }
+            }
+        }
+        if (!isValid) {
+            diagnostics.add(createDiagnostic(method, unit,
+                    Messages.getMessage("OnlyPublicMethods"),
+                    Jax_RSConstants.DIAGNOSTIC_CODE_NON_PUBLIC, null, DiagnosticSeverity.Error));
+        }
+        if (isResourceMethod) {
+            int numEntityParams = 0;
+            PsiParameter[] parameters = method.getParameterList().getParameters();
+            for (PsiParameter param : parameters) {
+                boolean isEntityParam = true;
+                for (String annotationName : annotationIndex.getAnnotationNames(param)) {
+                    String matchedAnnotation = getMatchedJavaElementName(type, annotationName,
+                            Jax_RSConstants.SET_OF_NON_ENTITY_PARAM_ANNOTATIONS);
+                    if (matchedAnnotation != null) {
+                        isEntityParam = false;
+                        break;
                     }
                 }
+                if (isEntityParam)
+                    numEntityParams++;
+            }
+            if (numEntityParams > 1) {
+                diagnostics.add(createDiagnostic(method, unit,
+                        Messages.getMessage("ResourceMethodsEntityParameter"),
+                        Jax_RSConstants.DIAGNOSTIC_CODE_MULTIPLE_ENTITY_PARAMS, null,
+                        DiagnosticSeverity.Error));
             }
         }
     }
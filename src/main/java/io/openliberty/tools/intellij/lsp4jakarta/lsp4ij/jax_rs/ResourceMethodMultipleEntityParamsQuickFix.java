@@ -84,8 +84,7 @@ public class ResourceMethodMultipleEntityParamsQuickFix implements IJavaCodeActi
     }
 
     private void addCreateCodeAction(JavaCodeActionContext context, Diagnostic diagnostic, List<CodeAction> codeActions, Integer entityParamIndex, List<Integer> entityParamIndexes) {
-        final JavaCodeActionContext targetContext = context.copy();
-        final PsiElement targetNode = targetContext.getCoveredNode();
+        final PsiElement targetNode = context.getCoveredNode();
         final PsiParameter[] parameters = Objects.requireNonNull(PsiTreeUtil.getParentOfType(targetNode, PsiMethod.class)).getParameterList().getParameters();
         final String title = getTitle(parameters[entityParamIndex]);
         Map<String, Object> extendedData = new HashMap<>();
@@ -19,6 +19,7 @@ import java.util.stream.Collectors;
 
 import com.intellij.psi.*;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AnnotationIndex;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.JDTUtils;
@@ -33,6 +34,8 @@ import org.eclipse.lsp4j.DiagnosticSeverity;
  */
 public class JsonbDiagnosticsCollector extends AbstractDiagnosticsCollector {
 
+    private static final String[] JSONB_ANNOTATIONS = JsonbConstants.JSONB_ANNOTATIONS.toArray(String[]::new);
+
     public JsonbDiagnosticsCollector() {
         super();
     }
@@ -43,49 +46,49 @@ public class JsonbDiagnosticsCollector extends AbstractDiagnosticsCollector {
     }
 
     @Override
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
-        if (unit == null)
-            return;
-        PsiClass[] types = unit.getClasses();
-        PsiMethod[] methods;
-        PsiAnnotation[] allAnnotations;
-
-        for (PsiClass type : types) {
-            methods = type.getMethods();
-            List<PsiMethod> jonbMethods = new ArrayList<PsiMethod>();
-            // methods
-            for (PsiMethod method : type.getMethods()) {
-                if (isConstructorMethod(method) || method.hasModifierProperty(PsiModifier.STATIC)) {
-                    allAnnotations = method.getAnnotations();
-                    for (PsiAnnotation annotation : allAnnotations) {
-                        if (isMatchedJavaElement(type, annotation.getQualifiedName(), JsonbConstants.JSONB_CREATOR))
-                            jonbMethods.add(method);
-                    }
-                }
-            }
-            if (jonbMethods.size() > JsonbConstants.MAX_METHOD_WITH_JSONBCREATOR) {
-                for (PsiMethod method : methods) {
-                    diagnostics.add(createDiagnostic(method, unit, Messages.getMessage("ErrorMessageJsonbCreator"),
-                            JsonbConstants.DIAGNOSTIC_CODE_ANNOTATION, null, DiagnosticSeverity.Error));
+    protected boolean isTraversalCollector() {
+        return true;
+    }
+
+    @Override
+    protected void visitField(PsiJavaFile unit, PsiClass type, PsiField field, AnnotationIndex annotationIndex,
+                              List<Diagnostic> diagnostics) {
+        collectJsonbTransientFieldDiagnostics(unit, type, annotationIndex, diagnostics, field);
+        collectJsonbTransientAccessorDiagnostics(unit, type, annotationIndex, diagnostics, field);
+    }
+
+    @Override
+    protected void endType(PsiJavaFile unit, PsiClass type, AnnotationIndex annotationIndex,
+                           List<Diagnostic> diagnostics) {
+        PsiMethod[] methods = type.getMethods();
+        List<PsiMethod> jonbMethods = new ArrayList<PsiMethod>();
+        // methods
+        for (PsiMethod method : methods) {
+            if (isConstructorMethod(method) || method.hasModifierProperty(PsiModifier.STATIC)) {
+                for (String annotationName : annotationIndex.getAnnotationNames(method)) {
+                    if (isMatchedJavaElement(type, annotationName, JsonbConstants.JSONB_CREATOR))
+                        jonbMethods.add(method);
                 }
             }
-            // fields
-            for (PsiField field : type.getFields()) {
-                collectJsonbTransientFieldDiagnostics(unit, type, diagnostics, field);
-                collectJsonbTransientAccessorDiagnostics(unit, type, diagnostics, field);
+        }
+        if (jonbMethods.size() > JsonbConstants.MAX_METHOD_WITH_JSONBCREATOR) {
+            for (PsiMethod method : methods) {
+                diagnostics.add(createDiagnostic(method, unit, Messages.getMessage("ErrorMessageJsonbCreator"),
+                        JsonbConstants.DIAGNOSTIC_CODE_ANNOTATION, null, DiagnosticSeverity.Error));
             }
         }
     }
 
-    private void collectJsonbTransientFieldDiagnostics(PsiJavaFile unit, PsiClass type, List<Diagnostic> diagnostics, PsiField field) {
-        List<String> jsonbAnnotationsForField = getJsonbAnnotationNames(type, field);
+    private void collectJsonbTransientFieldDiagnostics(PsiJavaFile unit, PsiClass type, AnnotationIndex annotationIndex,
+                                                       List<Diagnostic> diagnostics, PsiField field) {
+        List<String> jsonbAnnotationsForField = getJsonbAnnotationNames(type, annotationIndex, field);
         if (jsonbAnnotationsForField.contains(JsonbConstants.JSONB_TRANSIENT_FQ_NAME)) {
             boolean hasAccessorConflict = false;
             // Diagnostics on the accessors of the field are created when they are
             // annotated with Jsonb annotations other than JsonbTransient.
             List<PsiMethod> accessors = JDTUtils.getFieldAccessors(unit, field);
             for (PsiMethod accessor : accessors) {
-                List<String> jsonbAnnotationsForAccessor = getJsonbAnnotationNames(type, accessor);
+                List<String> jsonbAnnotationsForAccessor = getJsonbAnnotationNames(type, annotationIndex, accessor);
                 if (hasJsonbAnnotationOtherThanTransient(jsonbAnnotationsForAccessor)) {
                     createJsonbTransientDiagnostic(unit, diagnostics, accessor, jsonbAnnotationsForAccessor,
                             JsonbConstants.DIAGNOSTIC_CODE_ANNOTATION_TRANSIENT_FIELD);
@@ -101,12 +104,13 @@ public class JsonbDiagnosticsCollector extends AbstractDiagnosticsCollector {
         }
     }
 
-    private void collectJsonbTransientAccessorDiagnostics(PsiJavaFile unit, PsiClass type, List<Diagnostic> diagnostics, PsiField field) {
+    private void collectJsonbTransientAccessorDiagnostics(PsiJavaFile unit, PsiClass type, AnnotationIndex annotationIndex,
+                                                          List<Diagnostic> diagnostics, PsiField field) {
         boolean createDiagnosticForField = false;
-        List<String> jsonbAnnotationsForField = getJsonbAnnotationNames(type, field);
+        List<String> jsonbAnnotationsForField = getJsonbAnnotationNames(type, annotationIndex, field);
         List<PsiMethod> accessors = JDTUtils.getFieldAccessors(unit, field);
         for (PsiMethod accessor : accessors) {
-            List<String> jsonbAnnotationsForAccessor = getJsonbAnnotationNames(type, accessor);
+            List<String> jsonbAnnotationsForAccessor = getJsonbAnnotationNames(type, annotationIndex, accessor);
             boolean hasFieldConflict = false;
             if (jsonbAnnotationsForAccessor.contains(JsonbConstants.JSONB_TRANSIENT_FQ_NAME)) {
                 // Diagnostic is created if the field of this accessor has a annotation other
@@ -143,11 +147,10 @@ public class JsonbDiagnosticsCollector extends AbstractDiagnosticsCollector {
         return true;
     }
 
-    private List<String> getJsonbAnnotationNames(PsiClass type, PsiJvmModifiersOwner annotable) {
+    private List<String> getJsonbAnnotationNames(PsiClass type, AnnotationIndex annotationIndex, PsiJvmModifiersOwner annotable) {
         List<String> jsonbAnnotationNames = new ArrayList<String>();
-        PsiAnnotation annotations[] = annotable.getAnnotations();
-        for (PsiAnnotation annotation : annotations) {
-            String matchedAnnotation = getMatchedJavaElementName(type, annotation.getQualifiedName(), JsonbConstants.JSONB_ANNOTATIONS.toArray(String[]::new));
+        for (String annotationName : annotationIndex.getAnnotationNames(annotable)) {
+            String matchedAnnotation = getMatchedJavaElementName(type, annotationName, JSONB_ANNOTATIONS);
             if (matchedAnnotation != null) {
                 jsonbAnnotationNames.add(matchedAnnotation);
             }
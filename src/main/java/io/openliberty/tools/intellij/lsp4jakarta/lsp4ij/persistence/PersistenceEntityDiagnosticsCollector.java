@@ -15,6 +15,7 @@ package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.persistence;
 
 import com.intellij.psi.*;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AnnotationIndex;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
@@ -38,88 +39,99 @@ public class PersistenceEntityDiagnosticsCollector extends AbstractDiagnosticsCo
     }
 
     @Override
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
-        if (unit != null) {
-            PsiClass[] alltypes;
-            PsiAnnotation[] allAnnotations;
-
-            alltypes = unit.getClasses();
-            for (PsiClass type : alltypes) {
-                allAnnotations = type.getAnnotations();
-
-                /* ============ Entity Annotation Diagnostics =========== */
-                PsiAnnotation EntityAnnotation = null;
-                for (PsiAnnotation annotation : allAnnotations) {
-                    if (isMatchedJavaElement(type, annotation.getQualifiedName(), PersistenceConstants.ENTITY)) {
-                        EntityAnnotation = annotation;
-                    }
-                }
+    protected boolean isTraversalCollector() {
+        return true;
+    }
+
+    @Override
+    protected void visitField(PsiJavaFile unit, PsiClass type, PsiField field, AnnotationIndex annotationIndex,
+                              List<Diagnostic> diagnostics) {
+        if (!isEntity(type, annotationIndex)) {
+            return;
+        }
+        // Make sure no instance vars are final
+        // If a field is static, we do not care about it, we care about all other field
+        if (field.hasModifierProperty(PsiModifier.STATIC)) {
+            return;
+        }
+        // If we find a non-static variable that is final, this is a problem
+        if (field.hasModifierProperty(PsiModifier.FINAL)) {
+            diagnostics.add(createDiagnostic(field, unit,
+                    Messages.getMessage("EntityNoFinalVariables"),
+                    PersistenceConstants.DIAGNOSTIC_CODE_FINAL_VARIABLES, field.getType().getInternalCanonicalText(),
+                    DiagnosticSeverity.Error));
+        }
+    }
+
+    @Override
+    protected void visitMethod(PsiJavaFile unit, PsiClass type, PsiMethod method, AnnotationIndex annotationIndex,
+                               List<Diagnostic> diagnostics) {
+        if (!isEntity(type, annotationIndex) || isConstructorMethod(method)) {
+            return;
+        }
+        // All Methods of this class should not be final
+        if (method.hasModifierProperty(PsiModifier.FINAL)) {
+            diagnostics.add(createDiagnostic(method, unit,
+                    Messages.getMessage("EntityNoFinalMethods"),
+                    PersistenceConstants.DIAGNOSTIC_CODE_FINAL_METHODS, method.getReturnType().getInternalCanonicalText(),
+                    DiagnosticSeverity.Error));
+        }
+    }
 
-                if (EntityAnnotation != null) {
-                    // Define boolean requirements for the diagnostics
-                    boolean hasPublicOrProtectedNoArgConstructor = false;
-                    boolean hasArgConstructor = false;
-                    boolean isEntityClassFinal = false;
-
-                    // Get the Methods of the annotated Class
-                    for (PsiMethod method : type.getMethods()) {
-                        if (isConstructorMethod(method)) {
-                            // We have found a method that is a constructor
-                            if (method.getParameterList().getParametersCount() > 0) {
-                                hasArgConstructor = true;
-                                continue;
-                            }
-                            // Don't need to perform subtractions to check flags because eclipse notifies on
-                            // illegal constructor modifiers
-                            if (!method.hasModifierProperty(PsiModifier.PUBLIC) && !method.hasModifierProperty(PsiModifier.PROTECTED))
-                                continue;
-                            hasPublicOrProtectedNoArgConstructor = true;
-                        }
-                        // All Methods of this class should not be final
-                        if (method.hasModifierProperty(PsiModifier.FINAL)) {
-                            diagnostics.add(createDiagnostic(method, unit,
-                                    Messages.getMessage("EntityNoFinalMethods"),
-                                    PersistenceConstants.DIAGNOSTIC_CODE_FINAL_METHODS, method.getReturnType().getInternalCanonicalText(),
-                                    DiagnosticSeverity.Error));
-                        }
-                    }
-
-                    // Go through the instance variables and make sure no instance vars are final
-                    for (PsiField field : type.getFields()) {
-                        // If a field is static, we do not care about it, we care about all other field
-                        if (field.hasModifierProperty(PsiModifier.STATIC)) {
-                            continue;
-                        }
-                        // If we find a non-static variable that is final, this is a problem
-                        if (field.hasModifierProperty(PsiModifier.FINAL)) {
-                            diagnostics.add(createDiagnostic(field, unit,
-                                    Messages.getMessage("EntityNoFinalVariables"),
-                                    PersistenceConstants.DIAGNOSTIC_CODE_FINAL_VARIABLES, field.getType().getInternalCanonicalText(),
-                                    DiagnosticSeverity.Error));
-                        }
-                    }
-
-                    // Ensure that the Entity class is not given a final modifier
-                    if (type.hasModifierProperty(PsiModifier.FINAL))
-                        isEntityClassFinal = true;
-
-                    // Create Diagnostics if needed
-                    if (!hasPublicOrProtectedNoArgConstructor && hasArgConstructor) {
-                        diagnostics.add(createDiagnostic(type, unit,
-                                Messages.getMessage("EntityNoArgConstructor"),
-                                PersistenceConstants.DIAGNOSTIC_CODE_MISSING_EMPTY_CONSTRUCTOR, null,
-                                DiagnosticSeverity.Error));
-                    }
-
-                    if (isEntityClassFinal) {
-                        diagnostics.add(createDiagnostic(type, unit,
-                                Messages.getMessage("EntityNoFinalClass"),
-                                PersistenceConstants.DIAGNOSTIC_CODE_FINAL_CLASS, type.getQualifiedName(),
-                                DiagnosticSeverity.Error));
-                    }
+    @Override
+    protected void endType(PsiJavaFile unit, PsiClass type, AnnotationIndex annotationIndex,
+                           List<Diagnostic> diagnostics) {
+        if (!isEntity(type, annotationIndex)) {
+            return;
+        }
+        // Define boolean requirements for the diagnostics
+        boolean hasPublicOrProtectedNoArgConstructor = false;
+        boolean hasArgConstructor = false;
+        boolean isEntityClassFinal = false;
+
+        // Get the constructors of the annotated Class
+        for (PsiMethod method : type.getMethods()) {
+            if (isConstructorMethod(method)) {
+                // We have found a method that is a constructor
+                if (method.getParameterList().getParametersCount() > 0) {
+                    hasArgConstructor = true;
+                    continue;
                 }
+                // Don't need to perform subtractions to check flags because eclipse notifies on
+                // illegal constructor modifiers
+                if (!method.hasModifierProperty(PsiModifier.PUBLIC) && !method.hasModifierProperty(PsiModifier.PROTECTED))
+                    continue;
+                hasPublicOrProtectedNoArgConstructor = true;
+            }
+        }
+
+        // Ensure that the Entity class is not given a final modifier
+        if (type.hasModifierProperty(PsiModifier.FINAL))
+            isEntityClassFinal = true;
+
+        // Create Diagnostics if needed
+        if (!hasPublicOrProtectedNoArgConstructor && hasArgConstructor) {
+            diagnostics.add(createDiagnostic(type, unit,
+                    Messages.getMessage("EntityNoArgConstructor"),
+                    PersistenceConstants.DIAGNOSTIC_CODE_MISSING_EMPTY_CONSTRUCTOR, null,
+                    DiagnosticSeverity.Error));
+        }
+
+        if (isEntityClassFinal) {
+            diagnostics.add(createDiagnostic(type, unit,
+                    Messages.getMessage("EntityNoFinalClass"),
+                    PersistenceConstants.DIAGNOSTIC_CODE_FINAL_CLASS, type.getQualifiedName(),
+                    DiagnosticSeverity.Error));
+        }
+    }
+
+    /* ============ Entity Annotation Diagnostics =========== */
+    private boolean isEntity(PsiClass type, AnnotationIndex annotationIndex) {
+        for (String annotationName : annotationIndex.getAnnotationNames(type)) {
+            if (isMatchedJavaElement(type, annotationName, PersistenceConstants.ENTITY)) {
+                return true;
             }
         }
-        // We do not do anything if the found unit is null
+        return false;
     }
 }
@@ -15,6 +15,7 @@ package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.persistence;
 
 import com.intellij.psi.*;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AnnotationIndex;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
@@ -35,35 +36,34 @@ public class PersistenceMapKeyDiagnosticsCollector extends AbstractDiagnosticsCo
     }
 
     @Override
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
-        if (unit != null) {
-            PsiClass[] alltypes = unit.getClasses();
-            PsiMethod[] methods;
-            PsiField[] fields;
+    protected boolean isTraversalCollector() {
+        return true;
+    }
 
-            for (PsiClass type : alltypes) {
-                methods = type.getMethods();
-                for (PsiMethod method : methods) {
-                    collectDiagnostics(unit, diagnostics, type, method);
-                }
-                // Go through each field to ensure they do not have both MapKey and MapKeyColumn
-                // Annotations
-                fields = type.getFields();
-                for (PsiField field : fields) {
-                    collectDiagnostics(unit, diagnostics, type, field);
-                }
-            }
-        }
+    @Override
+    protected void visitMethod(PsiJavaFile unit, PsiClass type, PsiMethod method, AnnotationIndex annotationIndex,
+                               List<Diagnostic> diagnostics) {
+        collectDiagnostics(unit, diagnostics, type, annotationIndex, method);
+    }
+
+    @Override
+    protected void visitField(PsiJavaFile unit, PsiClass type, PsiField field, AnnotationIndex annotationIndex,
+                              List<Diagnostic> diagnostics) {
+        // Go through each field to ensure they do not have both MapKey and MapKeyColumn
+        // Annotations
+        collectDiagnostics(unit, diagnostics, type, annotationIndex, field);
     }
 
     private void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics,
-                                    PsiClass type, PsiJvmModifiersOwner fieldOrProperty) {
+                                    PsiClass type, AnnotationIndex annotationIndex, PsiJvmModifiersOwner fieldOrProperty) {
         List<PsiAnnotation> mapKeyJoinCols = new ArrayList<PsiAnnotation>();
         boolean hasMapKeyAnnotation = false;
         boolean hasMapKeyClassAnnotation = false;
-        PsiAnnotation[] allAnnotations = fieldOrProperty.getAnnotations();
-        for (PsiAnnotation annotation : allAnnotations) {
-            String matchedAnnotation = getMatchedJavaElementName(type, annotation.getQualifiedName(),
+        PsiAnnotation[] allAnnotations = annotationIndex.getAnnotations(fieldOrProperty);
+        String[] allAnnotationNames = annotationIndex.getAnnotationNames(fieldOrProperty);
+        for (int i = 0; i < allAnnotations.length; i++) {
+            PsiAnnotation annotation = allAnnotations[i];
+            String matchedAnnotation = getMatchedJavaElementName(type, allAnnotationNames[i],
                     PersistenceConstants.SET_OF_PERSISTENCE_ANNOTATIONS);
             if (matchedAnnotation != null) {
                 if (PersistenceConstants.MAPKEY.equals(matchedAnnotation))
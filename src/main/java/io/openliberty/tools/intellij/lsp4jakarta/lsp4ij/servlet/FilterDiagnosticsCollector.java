@@ -18,6 +18,7 @@ import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiJavaFile;
 import com.intellij.psi.PsiNameValuePair;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AnnotationIndex;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
@@ -35,65 +36,65 @@ public class FilterDiagnosticsCollector extends AbstractDiagnosticsCollector {
         return ServletConstants.DIAGNOSTIC_SOURCE;
     }
 
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
-        if (unit != null) {
-            PsiClass[] alltypes;
-            PsiAnnotation[] allAnnotations;
+    @Override
+    protected boolean isTraversalCollector() {
+        return true;
+    }
 
-            alltypes = unit.getClasses();
-            for (PsiClass type : alltypes) {
-                allAnnotations = type.getAnnotations();
-                PsiAnnotation webFilterAnnotation = null;
+    @Override
+    protected void visitType(PsiJavaFile unit, PsiClass type, AnnotationIndex annotationIndex,
+                             List<Diagnostic> diagnostics) {
+        PsiAnnotation[] allAnnotations = annotationIndex.getAnnotations(type);
+        String[] allAnnotationNames = annotationIndex.getAnnotationNames(type);
+        PsiAnnotation webFilterAnnotation = null;
 
-                for (PsiAnnotation annotation : allAnnotations) {
-                    if (isMatchedJavaElement(type, annotation.getQualifiedName(),
-                            ServletConstants.WEBFILTER_FQ_NAME)) {
-                        webFilterAnnotation = annotation;
-                    }
-                }
+        for (int i = 0; i < allAnnotations.length; i++) {
+            if (isMatchedJavaElement(type, allAnnotationNames[i],
+                    ServletConstants.WEBFILTER_FQ_NAME)) {
+                webFilterAnnotation = allAnnotations[i];
+            }
+        }
 
-                String[] interfaces = {ServletConstants.FILTER_FQ_NAME};
-                boolean isFilterImplemented = doesImplementInterfaces(type, interfaces);
+        String[] interfaces = {ServletConstants.FILTER_FQ_NAME};
+        boolean isFilterImplemented = doesImplementInterfaces(type, interfaces);
 
-                if (webFilterAnnotation != null && !isFilterImplemented) {
-                    diagnostics.add(createDiagnostic(type, unit,
-                            Messages.getMessage("WebFilterMustImplement"),
-                            ServletConstants.DIAGNOSTIC_CODE_FILTER, null, DiagnosticSeverity.Error));
-                }
+        if (webFilterAnnotation != null && !isFilterImplemented) {
+            diagnostics.add(createDiagnostic(type, unit,
+                    Messages.getMessage("WebFilterMustImplement"),
+                    ServletConstants.DIAGNOSTIC_CODE_FILTER, null, DiagnosticSeverity.Error));
+        }
 
-                /* URL pattern diagnostic check */
-                if (webFilterAnnotation != null) {
-                    PsiNameValuePair[] memberValues = webFilterAnnotation.getParameterList().getAttributes();
+        /* URL pattern diagnostic check */
+        if (webFilterAnnotation != null) {
+            PsiNameValuePair[] memberValues = webFilterAnnotation.getParameterList().getAttributes();
 
-                    boolean isUrlpatternSpecified = false;
-                    boolean isServletNamesSpecified = false;
-                    boolean isValueSpecified = false;
-                    for (PsiNameValuePair mv : memberValues) {
-                        if (mv.getAttributeName().equals(ServletConstants.URL_PATTERNS)) {
-                            isUrlpatternSpecified = true;
-                            continue;
-                        }
-                        if (mv.getAttributeName().equals(ServletConstants.SERVLET_NAMES)) {
-                            isServletNamesSpecified = true;
-                            continue;
-                        }
-                        if (mv.getAttributeName().equals(ServletConstants.VALUE)) {
-                            isValueSpecified = true;
-                        }
-                    }
-                    if (!isUrlpatternSpecified && !isValueSpecified && !isServletNamesSpecified) {
-                        diagnostics.add(createDiagnostic(webFilterAnnotation, unit,
-                                Messages.getMessage("WebFilterMustDefine"),
-                                ServletConstants.DIAGNOSTIC_CODE_FILTER_MISSING_ATTRIBUTE, null,
-                                DiagnosticSeverity.Error));
-                    }
-                    if (isUrlpatternSpecified && isValueSpecified) {
-                        diagnostics.add(createDiagnostic(webFilterAnnotation, unit,
-                                Messages.getMessage("WebFilterCannotHaveBoth"),
-                                ServletConstants.DIAGNOSTIC_CODE_FILTER_DUPLICATE_ATTRIBUTES, null,
-                                DiagnosticSeverity.Error));
-                    }
+            boolean isUrlpatternSpecified = false;
+            boolean isServletNamesSpecified = false;
+            boolean isValueSpecified = false;
+            for (PsiNameValuePair mv : memberValues) {
+                if (mv.getAttributeName().equals(ServletConstants.URL_PATTERNS)) {
+                    isUrlpatternSpecified = true;
+                    continue;
+                }
+                if (mv.getAttributeName().equals(ServletConstants.SERVLET_NAMES)) {
+                    isServletNamesSpecified = true;
+                    continue;
                 }
+                if (mv.getAttributeName().equals(ServletConstants.VALUE)) {
+                    isValueSpecified = true;
+                }
+            }
+            if (!isUrlpatternSpecified && !isValueSpecified && !isServletNamesSpecified) {
+                diagnostics.add(createDiagnostic(webFilterAnnotation, unit,
+                        Messages.getMessage("WebFilterMustDefine"),
+                        ServletConstants.DIAGNOSTIC_CODE_FILTER_MISSING_ATTRIBUTE, null,
+                        DiagnosticSeverity.Error));
+            }
+            if (isUrlpatternSpecified && isValueSpecified) {
+                diagnostics.add(createDiagnostic(webFilterAnnotation, unit,
+                        Messages.getMessage("WebFilterCannotHaveBoth"),
+                        ServletConstants.DIAGNOSTIC_CODE_FILTER_DUPLICATE_ATTRIBUTES, null,
+                        DiagnosticSeverity.Error));
             }
         }
     }
@@ -13,10 +13,10 @@
 
 package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.servlet;
 
-import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiJavaFile;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AnnotationIndex;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
@@ -34,38 +34,36 @@ public class ListenerDiagnosticsCollector extends AbstractDiagnosticsCollector {
         return ServletConstants.DIAGNOSTIC_SOURCE;
     }
 
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
-        if (unit != null) {
-            PsiClass[] alltypes;
-            PsiAnnotation[] allAnnotations;
+    @Override
+    protected boolean isTraversalCollector() {
+        return true;
+    }
 
-            alltypes = unit.getClasses();
-            for (PsiClass type : alltypes) {
-                allAnnotations = type.getAnnotations();
-                boolean isWebListenerAnnotated = false;
-                for (PsiAnnotation annotation : allAnnotations) {
-                    if (isMatchedJavaElement(type, annotation.getQualifiedName(),
-                            ServletConstants.WEB_LISTENER_FQ_NAME)) {
-                        isWebListenerAnnotated = true;
-                        break;
-                    }
-                }
+    @Override
+    protected void visitType(PsiJavaFile unit, PsiClass type, AnnotationIndex annotationIndex,
+                             List<Diagnostic> diagnostics) {
+        boolean isWebListenerAnnotated = false;
+        for (String annotationName : annotationIndex.getAnnotationNames(type)) {
+            if (isMatchedJavaElement(type, annotationName,
+                    ServletConstants.WEB_LISTENER_FQ_NAME)) {
+                isWebListenerAnnotated = true;
+                break;
+            }
+        }
 
-                String[] interfaces = { ServletConstants.SERVLET_CONTEXT_LISTENER_FQ_NAME,
-                        ServletConstants.SERVLET_CONTEXT_ATTRIBUTE_LISTENER_FQ_NAME,
-                        ServletConstants.SERVLET_REQUEST_LISTENER_FQ_NAME,
-                        ServletConstants.SERVLET_REQUEST_ATTRIBUTE_LISTENER_FQ_NAME,
-                        ServletConstants.HTTP_SESSION_LISTENER_FQ_NAME,
-                        ServletConstants.HTTP_SESSION_ATTRIBUTE_LISTENER_FQ_NAME,
-                        ServletConstants.HTTP_SESSION_ID_LISTENER_FQ_NAME };
-                boolean isImplemented = doesImplementInterfaces(type, interfaces);
+        String[] interfaces = { ServletConstants.SERVLET_CONTEXT_LISTENER_FQ_NAME,
+                ServletConstants.SERVLET_CONTEXT_ATTRIBUTE_LISTENER_FQ_NAME,
+                ServletConstants.SERVLET_REQUEST_LISTENER_FQ_NAME,
+                ServletConstants.SERVLET_REQUEST_ATTRIBUTE_LISTENER_FQ_NAME,
+                ServletConstants.HTTP_SESSION_LISTENER_FQ_NAME,
+                ServletConstants.HTTP_SESSION_ATTRIBUTE_LISTENER_FQ_NAME,
+                ServletConstants.HTTP_SESSION_ID_LISTENER_FQ_NAME };
+        boolean isImplemented = doesImplementInterfaces(type, interfaces);
 
-                if (isWebListenerAnnotated && !isImplemented) {
-                    diagnostics.add(createDiagnostic(type, unit,
-                            Messages.getMessage("AnnotatedWithWebListenerMustImplement"),
-                            ServletConstants.DIAGNOSTIC_CODE_LISTENER, null, DiagnosticSeverity.Error));
-                }
-            }
+        if (isWebListenerAnnotated && !isImplemented) {
+            diagnostics.add(createDiagnostic(type, unit,
+                    Messages.getMessage("AnnotatedWithWebListenerMustImplement"),
+                    ServletConstants.DIAGNOSTIC_CODE_LISTENER, null, DiagnosticSeverity.Error));
         }
     }
 }
@@ -16,6 +16,7 @@ package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.servlet;
 import com.intellij.psi.*;
 import com.intellij.psi.search.GlobalSearchScope;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AnnotationIndex;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
@@ -48,72 +49,71 @@ public class ServletDiagnosticsCollector extends AbstractDiagnosticsCollector {
     }
 
     @Override
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
-        if (unit != null) {
-            PsiClass[] alltypes;
-            PsiAnnotation[] allAnnotations;
+    protected boolean isTraversalCollector() {
+        return true;
+    }
 
-            alltypes = unit.getClasses();
-            for (PsiClass type : alltypes) {
-                allAnnotations = type.getAnnotations();
+    @Override
+    protected void visitType(PsiJavaFile unit, PsiClass type, AnnotationIndex annotationIndex,
+                             List<Diagnostic> diagnostics) {
+        PsiAnnotation[] allAnnotations = annotationIndex.getAnnotations(type);
+        String[] allAnnotationNames = annotationIndex.getAnnotationNames(type);
 
-                PsiAnnotation webServletAnnotation = null;
-                for (PsiAnnotation annotation : allAnnotations) {
-                    if (isMatchedJavaElement(type, annotation.getQualifiedName(),
-                            ServletConstants.WEB_SERVLET_FQ_NAME)) {
-                        webServletAnnotation = annotation;
-                        break; // get the first one, the annotation is not repeatable
-                    }
-                }
+        PsiAnnotation webServletAnnotation = null;
+        for (int i = 0; i < allAnnotations.length; i++) {
+            if (isMatchedJavaElement(type, allAnnotationNames[i],
+                    ServletConstants.WEB_SERVLET_FQ_NAME)) {
+                webServletAnnotation = allAnnotations[i];
+                break; // get the first one, the annotation is not repeatable
+            }
+        }
 
-                if (webServletAnnotation != null) {
-                    // check if the class extends HttpServlet
-                    int r = 1;
-                    JavaPsiFacade facade = JavaPsiFacade.getInstance(type.getProject());
-                    PsiClass httpServletClass = facade.findClass("jakarta.servlet.http.HttpServlet",
-                            GlobalSearchScope.allScope(type.getProject()));
-                    if (!type.isInheritor(httpServletClass, true)) {
-                        r = -1;
-                    }
+        if (webServletAnnotation != null) {
+            // check if the class extends HttpServlet
+            int r = 1;
+            JavaPsiFacade facade = JavaPsiFacade.getInstance(type.getProject());
+            PsiClass httpServletClass = facade.findClass("jakarta.servlet.http.HttpServlet",
+                    GlobalSearchScope.allScope(type.getProject()));
+            if (!type.isInheritor(httpServletClass, true)) {
+                r = -1;
+            }
 
-                    if (r == -1) {
-                        diagnostics.add(createDiagnostic(type, unit,
-                                Messages.getMessage("WebServletMustExtend"),
-                                ServletConstants.DIAGNOSTIC_CODE, null, DiagnosticSeverity.Error));
-                    } else if (r == 0) { // unknown super type
-                        diagnostics.add(createDiagnostic(type, unit,
-                                Messages.getMessage("WebServletShouldExtend"),
-                                ServletConstants.DIAGNOSTIC_CODE, null, DiagnosticSeverity.Warning));
-                    }
+            if (r == -1) {
+                diagnostics.add(createDiagnostic(type, unit,
+                        Messages.getMessage("WebServletMustExtend"),
+                        ServletConstants.DIAGNOSTIC_CODE, null, DiagnosticSeverity.Error));
+            } else if (r == 0) { // unknown super type
+                diagnostics.add(createDiagnostic(type, unit,
+                        Messages.getMessage("WebServletShouldExtend"),
+                        ServletConstants.DIAGNOSTIC_CODE, null, DiagnosticSeverity.Warning));
+            }
 
-                    /* URL pattern diagnostic check */
-                    PsiNameValuePair[] memberValues = webServletAnnotation.getParameterList().getAttributes();
+            /* URL pattern diagnostic check */
+            PsiNameValuePair[] memberValues = webServletAnnotation.getParameterList().getAttributes();
 
-                    boolean isUrlpatternSpecified = false;
-                    boolean isValueSpecified = false;
-                    for (PsiNameValuePair mv : memberValues) {
-                        if (mv.getAttributeName().equals(ServletConstants.URL_PATTERNS)) {
-                            isUrlpatternSpecified = true;
-                            continue;
-                        }
-                        if (mv.getAttributeName().equals(ServletConstants.VALUE)) {
-                            isValueSpecified = true;
-                        }
-                    }
-                    if (!isUrlpatternSpecified && !isValueSpecified) {
-                        diagnostics.add(createDiagnostic(webServletAnnotation, unit,
-                                Messages.getMessage("WebServletMustDefine"),
-                                ServletConstants.DIAGNOSTIC_CODE_MISSING_ATTRIBUTE, null,
-                                DiagnosticSeverity.Error));
-                    }
-                    if (isUrlpatternSpecified && isValueSpecified) {
-                        diagnostics.add(createDiagnostic(webServletAnnotation, unit,
-                                Messages.getMessage("WebServletCannotHaveBoth"),
-                                ServletConstants.DIAGNOSTIC_CODE_DUPLICATE_ATTRIBUTES, null,
-                                DiagnosticSeverity.Error));
-                    }
+            boolean isUrlpatternSpecified = false;
+            boolean isValueSpecified = false;
+            for (PsiNameValuePair mv : memberValues) {
+                if (mv.getAttributeName().equals(ServletConstants.URL_PATTERNS)) {
+                    isUrlpatternSpecified = true;
+                    continue;
+                }
+                if (mv.getAttributeName().equals(ServletConstants.VALUE)) {
+                    isValueSpecified = true;
                 }
             }
+            if (!isUrlpatternSpecified && !isValueSpecified) {
+                diagnostics.add(createDiagnostic(webServletAnnotation, unit,
+                        Messages.getMessage("WebServletMustDefine"),
+                        ServletConstants.DIAGNOSTIC_CODE_MISSING_ATTRIBUTE, null,
+                        DiagnosticSeverity.Error));
+            }
+            if (isUrlpatternSpecified && isValueSpecified) {
+                diagnostics.add(createDiagnostic(webServletAnnotation, unit,
+                        Messages.getMessage("WebServletCannotHaveBoth"),
+                        ServletConstants.DIAGNOSTIC_CODE_DUPLICATE_ATTRIBUTES, null,
+                        DiagnosticSeverity.Error));
+            }
         }
     }
 }
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp.lsp;
+
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiCodeBlock;
+import com.intellij.psi.PsiComment;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiRecursiveElementWalkingVisitor;
+import com.intellij.psi.PsiWhiteSpace;
+import com.intellij.psi.javadoc.PsiDocComment;
+import com.intellij.util.containers.ContainerUtil;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * Structural fingerprints of the Java files of a project.
+ *
+ * <p>
+ * The MicroProfile properties of a Java file are collected from its declarations (annotations, fields, method
+ * signatures, Javadoc, constants used in annotations), never from the statements of its method bodies. The fingerprint
+ * of a Java file is a hash of its tokens outside of code blocks, without whitespaces and comments (Javadoc is kept),
+ * so that an edit inside a method body doesn't change it.
+ * </p>
+ *
+ * <p>
+ * The fingerprint of a Java file is recorded when it is opened in an editor, so that its first change is compared to
+ * it.
+ * </p>
+ */
+class JavaStructureFingerprints {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Project project;
+
+    private final Map<VirtualFile, Long> fingerprints = ContainerUtil.createConcurrentWeakMap();
+
+    JavaStructureFingerprints(Project project) {
+        this.project = project;
+    }
+
+    /**
+     * Updates the fingerprint of the given Java file and returns true if it has changed since the last update and false
+     * otherwise.
+     *
+     * <p>
+     * A file whose fingerprint is not known yet (ex : a file changed without being opened) or which cannot be parsed
+     * (ex : deleted file) is considered as changed.
+     * </p>
+     *
+     * @param file        the Java file.
+     * @param fingerprint the fingerprint computed with {@link #computeFingerprint(VirtualFile)} and null if the file
+     *                    cannot be parsed.
+     * @return true if the fingerprint of the given Java file has changed and false otherwise.
+     */
+    boolean update(VirtualFile file, @Nullable Long fingerprint) {
+        if (fingerprint == null) {
+            fingerprints.remove(file);
+            return true;
+        }
+        Long previous = fingerprints.put(file, fingerprint);
+        return !fingerprint.equals(previous);
+    }
+
+    /**
+     * Records the fingerprint of the given Java file if none is known yet. Must be called in a read action.
+     *
+     * <p>
+     * The fingerprint of a modified document is not recorded: the file may have been edited since it was opened, and
+     * this change must not be ignored.
+     * </p>
+     *
+     * @param file the Java file.
+     */
+    void recordIfAbsent(VirtualFile file) {
+        if (fingerprints.containsKey(file) || FileDocumentManager.getInstance().isFileModified(file)) {
+            return;
+        }
+        Long fingerprint = computeFingerprint(file);
+        if (fingerprint != null) {
+            fingerprints.putIfAbsent(file, fingerprint);
+        }
+    }
+
+    /**
+     * Forgets the fingerprint of the given Java file, which is then considered as changed by the next update.
+     *
+     * @param file the Java file.
+     */
+    void invalidate(VirtualFile file) {
+        fingerprints.remove(file);
+    }
+
+    /**
+     * Returns the fingerprint of the given Java file and null if it cannot be parsed. Must be called in a read action,
+     * and doesn't update the known fingerprints so that a read action cancelled by a write action can be restarted.
+     *
+     * @param file the Java file.
+     * @return the fingerprint of the given Java file and null if it cannot be parsed.
+     */
+    @Nullable
+    Long computeFingerprint(VirtualFile file) {
+        if (project.isDisposed() || !file.isValid()) {
+            return null;
+        }
+        PsiFile psiFile = PsiManager.getInstance(project).findFile(file);
+        if (!(psiFile instanceof PsiJavaFile)) {
+            return null;
+        }
+        long[] hash = {FNV_OFFSET_BASIS};
+        psiFile.accept(new PsiRecursiveElementWalkingVisitor() {
+            @Override
+            public void visitElement(PsiElement element) {
+                if (element instanceof PsiCodeBlock || element instanceof PsiWhiteSpace
+                        || (element instanceof PsiComment && !(element instanceof PsiDocComment))) {
+                    return;
+                }
+                if (element.getFirstChild() == null) {
+                    // Leaf token
+                    String text = element.getText();
+                    long h = hash[0];
+                    for (int i = 0; i < text.length(); i++) {
+                        h = (h ^ text.charAt(i)) * FNV_PRIME;
+                    }
+                    // Separate the tokens
+                    hash[0] = (h ^ ' ') * FNV_PRIME;
+                    return;
+                }
+                super.visitElement(element);
+            }
+        });
+        return hash[0];
+    }
+}
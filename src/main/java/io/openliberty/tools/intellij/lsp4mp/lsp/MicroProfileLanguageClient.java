@@ -13,6 +13,9 @@ package io.openliberty.tools.intellij.lsp4mp.lsp;
 import com.intellij.codeInspection.InspectionProfile;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.fileEditor.FileEditorManager;
+import com.intellij.openapi.fileEditor.FileEditorManagerListener;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.progress.Task;
@@ -20,6 +23,7 @@ import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Pair;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.profile.ProfileChangeAdapter;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import com.intellij.util.messages.MessageBusConnection;
 import com.redhat.devtools.lsp4ij.JSONUtils;
 import io.openliberty.tools.intellij.lsp4mp.MicroProfileDeploymentSupport;
@@ -30,6 +34,7 @@ import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.PropertiesManagerForJava
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import io.openliberty.tools.intellij.metrics.MeasuredLanguageClient;
 import io.openliberty.tools.intellij.lsp4mp4ij.settings.MicroProfileInspectionsInfo;
 import io.openliberty.tools.intellij.lsp4mp4ij.settings.UserDefinedMicroProfileSettings;
 import io.openliberty.tools.intellij.lsp4mp.MicroProfileModuleUtil;
@@ -41,28 +46,41 @@ import org.eclipse.lsp4mp.commons.utils.JSONUtility;
 import org.eclipse.lsp4mp.ls.api.MicroProfileLanguageClientAPI;
 import org.eclipse.lsp4mp.ls.api.MicroProfileLanguageServerAPI;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import com.redhat.devtools.lsp4ij.client.CoalesceByKey;
-import com.redhat.devtools.lsp4ij.client.IndexAwareLanguageClient;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
  * Adapted from https://github.com/redhat-developer/intellij-quarkus/blob/2585eb422beeb69631076d2c39196d6eca2f5f2e/src/main/java/com/redhat/devtools/intellij/quarkus/lsp/QuarkusLanguageClient.java
  * to start LSP4MP, Language Server for MicroProfile
  */
-public class MicroProfileLanguageClient extends IndexAwareLanguageClient implements MicroProfileLanguageClientAPI, ClasspathResourceChangedManager.Listener, ProfileChangeAdapter {
+public class MicroProfileLanguageClient extends MeasuredLanguageClient implements MicroProfileLanguageClientAPI, ClasspathResourceChangedManager.Listener, ProfileChangeAdapter {
+
+    // Number of changed Java files from which the fingerprints are not computed (same as the bulk threshold of the
+    // ClasspathResourceChangedNotifier)
+    private static final int FINGERPRINTS_THRESHOLD = 50;
 
     private final MessageBusConnection connection;
     private MicroProfileInspectionsInfo inspectionsInfo;
+    // Modules whose dependencies are being searched in background, see computeProjectInfo
+    private final Set<List<Object>> pendingDependenciesSearches = ConcurrentHashMap.newKeySet();
+    // Structural fingerprints of the changed Java files, to ignore changes which cannot update the properties
+    private final JavaStructureFingerprints javaFingerprints;
 
     public MicroProfileLanguageClient(Project project) {
         super(project);
+        javaFingerprints = new JavaStructureFingerprints(project);
         // Call Quarkus deployment support here to react on library changed (to evict quarkus deploiement cache) before
         // sending an LSP microprofile/propertiesChanged notifications
         MicroProfileDeploymentSupport.getInstance(project);
@@ -70,6 +88,14 @@ public class MicroProfileLanguageClient extends IndexAwareLanguageClient impleme
         connection.subscribe(ClasspathResourceChangedManager.TOPIC, this);
         inspectionsInfo = MicroProfileInspectionsInfo.getMicroProfileInspectionInfo(project);
         connection.subscribe(ProfileChangeAdapter.TOPIC, this);
+        // Record the fingerprints of the Java files opened in an editor, to compare their first change to them
+        connection.subscribe(FileEditorManagerListener.FILE_EDITOR_MANAGER, new FileEditorManagerListener() {
+            @Override
+            public void fileOpened(@NotNull FileEditorManager source, @NotNull VirtualFile file) {
+                recordJavaFingerprints(List.of(file));
+            }
+        });
+        recordJavaFingerprints(Arrays.asList(FileEditorManager.getInstance(project).getOpenFiles()));
         // Track MicroProfile settings changed to push them to the language server with LSP didChangeConfiguration.
         UserDefinedMicroProfileSettings.getInstance(project).addChangeHandler(getDidChangeConfigurationListener());
     }
@@ -129,8 +155,58 @@ public class MicroProfileLanguageClient extends IndexAwareLanguageClient impleme
             // The language client has been disposed, ignore changes in Java source / microprofile-config.properties files
             return;
         }
+        List<VirtualFile> javaFiles = sources.stream()
+                .map(Pair::getFirst)
+                .filter(this::isJavaFile)
+                .collect(Collectors.toList());
+        if (javaFiles.isEmpty() || javaFiles.size() >= FINGERPRINTS_THRESHOLD) {
+            // Bulk update (ex : VCS update, branch switch): most of the Java files are likely to have changed, don't
+            // parse them and send the change for all of them.
+            javaFiles.forEach(javaFingerprints::invalidate);
+            sendSourcesChangeEvent(sources, null);
+            return;
+        }
+        // Compute the fingerprints in a read action which doesn't block the write actions and is restarted if one
+        // is requested.
+        ReadAction.nonBlocking(() -> {
+                    Map<VirtualFile, Long> fingerprints = new HashMap<>();
+                    for (VirtualFile file : javaFiles) {
+                        fingerprints.put(file, javaFingerprints.computeFingerprint(file));
+                    }
+                    return fingerprints;
+                })
+                .expireWith(LibertyToolPluginDisposable.getInstance(getProject()))
+                .submit(AppExecutorUtil.getAppExecutorService())
+                .onSuccess(fingerprints -> sendSourcesChangeEvent(sources, fingerprints));
+    }
+
+    private void recordJavaFingerprints(List<VirtualFile> files) {
+        List<VirtualFile> javaFiles = files.stream()
+                .filter(this::isJavaFile)
+                .collect(Collectors.toList());
+        if (javaFiles.isEmpty()) {
+            return;
+        }
+        ReadAction.nonBlocking(() -> javaFiles.forEach(javaFingerprints::recordIfAbsent))
+                .expireWith(LibertyToolPluginDisposable.getInstance(getProject()))
+                .submit(AppExecutorUtil.getAppExecutorService());
+    }
+
+    /**
+     * Sends the properties change event for the given changed sources.
+     *
+     * @param sources      the changed Java and config source files.
+     * @param fingerprints the fingerprints of the changed Java files, to ignore the Java files whose structure has not
+     *                     changed, and null to send the change for all the Java files.
+     */
+    private void sendSourcesChangeEvent(Set<Pair<VirtualFile, Module>> sources, @Nullable Map<VirtualFile, Long> fingerprints) {
+        if (isDisposed()) {
+            return;
+        }
         List<Pair<String, MicroProfilePropertiesScope>> info = sources.stream()
-                .filter(pair -> isJavaFile(pair.getFirst()) || isConfigSource(pair.getFirst()))
+                .filter(pair -> isJavaFile(pair.getFirst()) ?
+                        fingerprints == null || javaFingerprints.update(pair.getFirst(), fingerprints.get(pair.getFirst())) :
+                        isConfigSource(pair.getFirst()))
                 .map(pair -> Pair.pair(PsiUtilsLSImpl.getProjectURI(pair.getSecond()), getScope(pair.getFirst())))
                 .collect(Collectors.toList());
         if (!info.isEmpty()) {
@@ -176,15 +252,72 @@ public class MicroProfileLanguageClient extends IndexAwareLanguageClient impleme
     private CompletableFuture<MicroProfileProjectInfo> internalGetProjectInfo(MicroProfileProjectInfoParams params) {
         var coalesceBy = new CoalesceByKey("microprofile/projectInfo", params.getUri(), params.getScopes());
         String filePath = getFilePath(params.getUri());
-        return runAsBackground("Computing MicroProfile properties for '" + filePath + "'.", monitor ->
-                PropertiesManager.getInstance().getMicroProfileProjectInfo(params, PsiUtilsLSImpl.getInstance(getProject()), monitor),
-                coalesceBy);
+        return runAsBackgroundWithMetrics("microprofile/projectInfo", "Computing MicroProfile properties for '" + filePath + "'.", monitor ->
+                computeProjectInfo(params, monitor), coalesceBy);
+    }
+
+    /**
+     * Returns the MicroProfile project information of the given params.
+     *
+     * <p>
+     * When the dependencies of the module have not been searched yet (first request or libraries changed), only the
+     * sources and the static properties are returned to avoid blocking the language server during the search of the
+     * dependencies, which is done in background and followed by a 'microprofile/propertiesChanged' notification so
+     * that the language server requests the complete project information.
+     * </p>
+     */
+    private MicroProfileProjectInfo computeProjectInfo(MicroProfileProjectInfoParams params, ProgressIndicator monitor) {
+        IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
+        PropertiesManager manager = PropertiesManager.getInstance();
+        if (MicroProfilePropertiesScope.isOnlySources(params.getScopes()) || manager.isMicroProfileProjectInfoCollected(params, utils)) {
+            return manager.getMicroProfileProjectInfo(params, utils, monitor);
+        }
+        MicroProfileProjectInfo info = manager.getMicroProfileProjectInfoFromSources(params, utils, monitor);
+        collectDependenciesInBackground(params, info);
+        return info;
+    }
+
+    private void collectDependenciesInBackground(MicroProfileProjectInfoParams params, MicroProfileProjectInfo info) {
+        List<Object> key = Arrays.asList(info.getProjectURI(), info.getClasspathKind(), params.getScopes(), params.getDocumentFormat());
+        if (!pendingDependenciesSearches.add(key)) {
+            // The dependencies of the module are already being searched
+            return;
+        }
+        ApplicationManager.getApplication().invokeLater(() -> {
+            new Task.Backgroundable(getProject(), "Scanning MicroProfile properties of dependencies...", true) {
+                @Override
+                public void run(@NotNull ProgressIndicator progressIndicator) {
+                    try {
+                        IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
+                        // The library JARs are hashed before the read action, which only searches the uncached JARs
+                        PropertiesManager.getInstance().computeLibraryHashes(params, utils, progressIndicator);
+                        ReadAction.nonBlocking(() -> PropertiesManager.getInstance().getMicroProfileProjectInfo(params,
+                                        utils, progressIndicator))
+                                .inSmartMode(getProject())
+                                .expireWith(LibertyToolPluginDisposable.getInstance(getProject()))
+                                .wrapProgress(progressIndicator)
+                                .executeSynchronously();
+                    } finally {
+                        pendingDependenciesSearches.remove(key);
+                    }
+                    if (!isDisposed()) {
+                        sendPropertiesChangeEvent(Collections.singletonList(MicroProfilePropertiesScope.dependencies),
+                                Collections.singleton(info.getProjectURI()));
+                    }
+                }
+
+                @Override
+                public void onCancel() {
+                    pendingDependenciesSearches.remove(key);
+                }
+            }.queue();
+        }, ModalityState.defaultModalityState(), getProject().getDisposed());
     }
 
     @Override
     public CompletableFuture<Hover> getJavaHover(MicroProfileJavaHoverParams javaParams) {
         var coalesceBy = new CoalesceByKey("microprofile/java/hover", javaParams.getUri(), javaParams.getPosition());
-        return runAsBackground("Computing MicroProfile Java hover", monitor -> PropertiesManagerForJava.getInstance().hover(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
+        return runAsBackgroundWithMetrics("microprofile/java/hover", "Computing MicroProfile Java hover", monitor -> PropertiesManagerForJava.getInstance().hover(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
     }
 
     @Override
@@ -195,66 +328,65 @@ public class MicroProfileLanguageClient extends IndexAwareLanguageClient impleme
         // "Too many non-blocking read actions submitted at once in". To avoid having this error, we create a coalesceBy key
         // managed by IJ ReadAction.nonBlocking() to cancel the previous request.
         var coalesceBy = new CoalesceByKey("microprofile/java/diagnostics", javaParams.getUris());
-        return runAsBackground("Computing MicroProfile Java diagnostics", monitor -> PropertiesManagerForJava.getInstance().diagnostics(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
+        if (javaParams.getUris() != null && javaParams.getUris().size() > 1) {
+            // The files are collected in parallel, each one in its own non-blocking read action
+            return runWithMetrics("microprofile/java/diagnostics", () -> PropertiesManagerForJava.getInstance().diagnosticsInParallel(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
+        }
+        return runAsBackgroundWithMetrics("microprofile/java/diagnostics", "Computing MicroProfile Java diagnostics", monitor -> PropertiesManagerForJava.getInstance().diagnostics(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
     }
 
     @Override
     public CompletableFuture<Location> getPropertyDefinition(MicroProfilePropertyDefinitionParams params) {
         var coalesceBy = new CoalesceByKey("microprofile/propertyDefinition", params.getUri(), params.getSourceType(), params.getSourceField(), params.getSourceMethod());
-        return runAsBackground("Computing property definition", monitor -> PropertiesManager.getInstance().findPropertyLocation(params, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
+        return runAsBackgroundWithMetrics("microprofile/propertyDefinition", "Computing property definition", monitor -> PropertiesManager.getInstance().findPropertyLocation(params, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
     }
 
     @Override
     public CompletableFuture<ProjectLabelInfoEntry> getJavaProjectLabels(MicroProfileJavaProjectLabelsParams javaParams) {
         var coalesceBy = new CoalesceByKey("microprofile/java/projectLabels", javaParams.getUri(), javaParams.getTypes());
-        return runAsBackground("Computing Java projects labels", monitor -> ProjectLabelManager.getInstance().getProjectLabelInfo(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
+        return runAsBackgroundWithMetrics("microprofile/java/projectLabels", "Computing Java projects labels", monitor -> ProjectLabelManager.getInstance().getProjectLabelInfo(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
     }
 
     @Override
     public CompletableFuture<List<ProjectLabelInfoEntry>> getAllJavaProjectLabels() {
         var coalesceBy = new CoalesceByKey("microprofile/java/workspaceLabels");
-        return runAsBackground("Computing All Java projects labels", monitor -> ProjectLabelManager.getInstance().getProjectLabelInfo(PsiUtilsLSImpl.getInstance(getProject())),coalesceBy);
+        return runAsBackgroundWithMetrics("microprofile/java/workspaceLabels", "Computing All Java projects labels", monitor -> ProjectLabelManager.getInstance().getProjectLabelInfo(PsiUtilsLSImpl.getInstance(getProject())),coalesceBy);
     }
 
     @Override
     public CompletableFuture<JavaFileInfo> getJavaFileInfo(MicroProfileJavaFileInfoParams javaParams) {
         var coalesceBy = new CoalesceByKey("microprofile/java/fileInfo", javaParams.getUri());
-        return runAsBackground("Computing Java file info", monitor -> PropertiesManagerForJava.getInstance().fileInfo(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
+        return runAsBackgroundWithMetrics("microprofile/java/fileInfo", "Computing Java file info", monitor -> PropertiesManagerForJava.getInstance().fileInfo(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
     }
 
     @Override
     public CompletableFuture<List<MicroProfileDefinition>> getJavaDefinition(MicroProfileJavaDefinitionParams javaParams) {
         var coalesceBy = new CoalesceByKey("microprofile/java/definition", javaParams.getUri(),javaParams.getPosition());
-        return runAsBackground("Computing Java definitions", monitor -> PropertiesManagerForJava.getInstance().definition(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
+        return runAsBackgroundWithMetrics("microprofile/java/definition", "Computing Java definitions", monitor -> PropertiesManagerForJava.getInstance().definition(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
     }
 
     @Override
     public CompletableFuture<MicroProfileJavaCompletionResult> getJavaCompletion(MicroProfileJavaCompletionParams javaParams) {
         var coalesceBy = new CoalesceByKey("microprofile/java/completion", javaParams.getUri(),javaParams.getPosition());
-        return runAsBackground("Computing Java completion", monitor -> {
-            IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
-            CompletionList completionList = PropertiesManagerForJava.getInstance().completion(javaParams, utils);
-            JavaCursorContextResult cursorContext = PropertiesManagerForJava.getInstance().javaCursorContext(javaParams, utils);
-            return new MicroProfileJavaCompletionResult(completionList, cursorContext);
-        }, coalesceBy);
+        return runAsBackgroundWithMetrics("microprofile/java/completion", "Computing Java completion", monitor -> PropertiesManagerForJava.getInstance().completionWithCursorContext(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
     }
 
     @Override
     public CompletableFuture<List<? extends CodeLens>> getJavaCodelens(MicroProfileJavaCodeLensParams javaParams) {
         var coalesceBy = new CoalesceByKey("microprofile/java/codeLens", javaParams.getUri());
-        return runAsBackground("Computing Java codelens", monitor -> PropertiesManagerForJava.getInstance().codeLens(javaParams, PsiUtilsLSImpl.getInstance(getProject()), monitor), coalesceBy);
+        return runAsBackgroundWithMetrics("microprofile/java/codeLens", "Computing Java codelens", monitor -> PropertiesManagerForJava.getInstance().codeLens(javaParams, PsiUtilsLSImpl.getInstance(getProject()), monitor), coalesceBy);
     }
 
     @Override
     public CompletableFuture<List<CodeAction>> getJavaCodeAction(MicroProfileJavaCodeActionParams javaParams) {
         var coalesceBy = new CoalesceByKey("microprofile/java/codeAction", javaParams.getUri());
-        return runAsBackground("Computing Java code actions", monitor -> (List<CodeAction>) PropertiesManagerForJava.getInstance().codeAction(javaParams, PsiUtilsLSImpl.getInstance(getProject())),coalesceBy);
+        return runAsBackgroundWithMetrics("microprofile/java/codeAction", "Computing Java code actions", monitor -> (List<CodeAction>) PropertiesManagerForJava.getInstance().codeAction(javaParams, PsiUtilsLSImpl.getInstance(getProject())),coalesceBy);
     }
 
     @Override
     public CompletableFuture<CodeAction> resolveCodeAction(CodeAction unresolved) {
         var coalesceBy = new CoalesceByKey("microprofile/java/resolveCodeAction");
-        return runAsBackground("Computing Java resolve code actions", monitor -> {
+        return runAsBackgroundWithMetrics("microprofile/java/resolveCodeAction", "Computing Java resolve code actions", monitor -> {
             CodeActionResolveData data = JSONUtils.toModel(unresolved.getData(), CodeActionResolveData.class);
             unresolved.setData(data);
             return (CodeAction) PropertiesManagerForJava.getInstance().resolveCodeAction(unresolved, PsiUtilsLSImpl.getInstance(getProject()));
@@ -264,7 +396,7 @@ public class MicroProfileLanguageClient extends IndexAwareLanguageClient impleme
     @Override
     public CompletableFuture<JavaCursorContextResult> getJavaCursorContext(MicroProfileJavaCompletionParams params) {
         var coalesceBy = new CoalesceByKey("microprofile/java/javaCursorContext", params.getUri(), params.getPosition());
-        return runAsBackground("Computing Java Cursor context", monitor -> PropertiesManagerForJava.getInstance().javaCursorContext(params, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
+        return runAsBackgroundWithMetrics("microprofile/java/javaCursorContext", "Computing Java Cursor context", monitor -> PropertiesManagerForJava.getInstance().javaCursorContext(params, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
     }
 
     @Override
@@ -15,6 +15,7 @@ package io.openliberty.tools.intellij.lsp4mp4ij.classpath;
 
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.project.ModuleListener;
+import com.intellij.openapi.roots.ProjectRootManager;
 import com.intellij.openapi.roots.libraries.Library;
 import com.intellij.openapi.roots.libraries.LibraryTable;
 import com.intellij.openapi.util.Pair;
@@ -27,6 +28,7 @@ import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiTreeChangeAdapter;
 import com.intellij.psi.PsiTreeChangeEvent;
+import com.intellij.util.containers.ContainerUtil;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
 import org.jetbrains.annotations.NotNull;
 import com.redhat.devtools.lsp4ij.LSPIJUtils;
@@ -34,6 +36,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Classpath resource changed listener used to track update of:
@@ -48,8 +51,27 @@ class ClasspathResourceChangedListener extends PsiTreeChangeAdapter implements B
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ClasspathResourceChangedListener.class);
 
+    /**
+     * Classification of a file, valid as long as the file is not renamed, moved and the project roots don't change.
+     *
+     * @param name                   the name of the file when it has been classified.
+     * @param parent                 the parent of the file when it has been classified.
+     * @param rootsModificationCount the modification count of the project roots when the file has been classified.
+     * @param module                 the module of the Java / config source file and null if the file is irrelevant.
+     */
+    private record FileClassification(String name, VirtualFile parent, long rootsModificationCount, Module module) {
+
+        boolean isValid(VirtualFile file, long rootsModificationCount) {
+            return this.rootsModificationCount == rootsModificationCount && name.equals(file.getName())
+                    && parent == file.getParent();
+        }
+    }
+
     private final ClasspathResourceChangedManager manager;
 
+    // Each keystroke fires several PSI events, cache the module lookup and the config source extensions check per file
+    private final Map<VirtualFile, FileClassification> classifications = ContainerUtil.createConcurrentWeakMap();
+
     ClasspathResourceChangedListener(ClasspathResourceChangedManager manager) {
         this.manager = manager;
     }
@@ -124,6 +146,7 @@ class ClasspathResourceChangedListener extends PsiTreeChangeAdapter implements B
                 // A file has been deleted
                 // We need to track delete event in 'before' method because we need the project of the file (in after we loose this information).
                 tryToAddSourceFile(event.getFile(), false);
+                classifications.remove(event.getFile());
             }
         }
     }
@@ -152,12 +175,7 @@ class ClasspathResourceChangedListener extends PsiTreeChangeAdapter implements B
             // The file doesn't exist
             return;
         }
-        var project = manager.getProject();
-        if (!isJavaFile(file) && !isConfigSource(file)) {
-            return;
-        }
-        // The file is a Java file or microprofile-config.properties
-        Module module = LSPIJUtils.getModule(file, project);
+        Module module = getModule(file);
         if (module == null || module.isDisposed()) {
             return;
         }
@@ -166,4 +184,27 @@ class ClasspathResourceChangedListener extends PsiTreeChangeAdapter implements B
         notifier.addSourceFile(Pair.pair(file, module));
     }
 
+    /**
+     * Returns the module of the given file if it is a Java file or a config source file (ex : microprofile-config.properties)
+     * and null otherwise.
+     */
+    private Module getModule(VirtualFile file) {
+        if (file == null) {
+            return null;
+        }
+        var project = manager.getProject();
+        long rootsModificationCount = ProjectRootManager.getInstance(project).getModificationCount();
+        FileClassification classification = classifications.get(file);
+        if (classification == null || !classification.isValid(file, rootsModificationCount)) {
+            Module module = null;
+            if (isJavaFile(file) || isConfigSource(file)) {
+                // The file is a Java file or microprofile-config.properties
+                module = LSPIJUtils.getModule(file, project);
+            }
+            classification = new FileClassification(file.getName(), file.getParent(), rootsModificationCount, module);
+            classifications.put(file, classification);
+        }
+        return classification.module();
+    }
+
 }
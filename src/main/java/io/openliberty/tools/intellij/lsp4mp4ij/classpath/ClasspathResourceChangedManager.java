@@ -93,6 +93,16 @@ public class ClasspathResourceChangedManager implements Disposable {
 		PsiManager.getInstance(project).removePsiTreeChangeListener(listener);
 	}
 
+	/**
+	 * Returns the modification count of the config sources (ex : microprofile-config.properties), which changes
+	 * before the listeners are notified of a config source change.
+	 *
+	 * @return the modification count of the config sources.
+	 */
+	public long getConfigSourcesModificationCount() {
+		return resourceChangedNotifier.getConfigSourcesModificationCount();
+	}
+
 	Project getProject() {
 		return project;
 	}
@@ -23,99 +23,190 @@ import com.intellij.openapi.project.Project;
 import com.intellij.openapi.roots.libraries.Library;
 import com.intellij.openapi.util.Pair;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Source file change notifier with a debounce mode.
+ *
+ * <p>
+ * Changes are coalesced in a batch which is published once no change has been received for the debounce delay. The
+ * flush is scheduled once per batch on the shared IDE scheduler: a change received while the flush is scheduled only
+ * postpones it. A change received while a batch is published is flushed with the next batch, once the publish is
+ * done, so that the batches are published one at a time. The debounce delay is short for a few changes (ex : typing
+ * in an editor) and longer when a lot of changes are received (ex : VCS update, branch switch), to publish one batch
+ * for the whole bulk update.
+ * </p>
+ *
+ * <p>
+ * Each batch is published as an immutable snapshot where the source files are grouped per module.
+ * </p>
  */
 public class ClasspathResourceChangedNotifier implements Disposable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ClasspathResourceChangedNotifier.class);
 
-    private static final long DEBOUNCE_DELAY = 1000;
+    private static final long DEBOUNCE_DELAY = 300;
 
-    private final Project project;
+    private static final long BULK_DEBOUNCE_DELAY = 2000;
+
+    // Number of changes in a batch from which the changes are considered as a bulk update
+    private static final int BULK_THRESHOLD = 50;
+
+    /**
+     * Statistics of the notifier.
+     *
+     * @param eventsReceived       the number of source files and libraries changes received.
+     * @param notificationsEmitted the number of batches published.
+     */
+    public record Statistics(long eventsReceived, long notificationsEmitted) {
+    }
 
-    private Timer debounceTimer;
-    private TimerTask debounceTask;
+    private final Project project;
 
-    private final Set<Pair<VirtualFile, Module>> sourceFiles;
+    // Pending changes, guarded by this
+    private Map<Module, Set<VirtualFile>> sourceFiles = new LinkedHashMap<>();
     private boolean librariesChanged;
-    private boolean disposed;
+    private int pendingEvents;
+    private long lastEventTime;
+    private ScheduledFuture<?> flushTask;
+
+    private volatile boolean disposed;
+
+    private final AtomicLong eventsReceived = new AtomicLong();
+    private final AtomicLong notificationsEmitted = new AtomicLong();
+    private final AtomicLong configSourcesModificationCount = new AtomicLong();
 
     public ClasspathResourceChangedNotifier(Project project) {
         this.project = project;
-        sourceFiles = new HashSet<>();
     }
 
     public synchronized void addLibrary(Library library) {
-        if (debounceTask != null) {
-            debounceTask.cancel();
-        }
         librariesChanged = true;
         asyncNotifyChanges();
     }
 
     public synchronized void addSourceFile(Pair<VirtualFile, Module> pair) {
-        if (debounceTask != null) {
-            debounceTask.cancel();
-        }
-        synchronized (sourceFiles) {
-            sourceFiles.add(pair);
+        if (!sourceFiles.computeIfAbsent(pair.getSecond(), module -> new LinkedHashSet<>()).add(pair.getFirst())) {
+            // The file is already in the batch (ex : several PSI events for one keystroke), only postpone the flush
+            eventsReceived.incrementAndGet();
+            lastEventTime = System.currentTimeMillis();
+            return;
         }
-
         asyncNotifyChanges();
     }
 
+    /**
+     * Returns the number of published batches which contain a config source (ex : microprofile-config.properties).
+     * It is incremented before the batch is published, so it has changed when the listeners are notified.
+     *
+     * @return the modification count of the config sources.
+     */
+    public long getConfigSourcesModificationCount() {
+        return configSourcesModificationCount.get();
+    }
+
+    /**
+     * Returns the statistics of the notifier.
+     *
+     * @return the statistics of the notifier.
+     */
+    public Statistics getStatistics() {
+        return new Statistics(eventsReceived.get(), notificationsEmitted.get());
+    }
+
     private void asyncNotifyChanges() {
         if (isDisposed()) {
             return;
         }
+        eventsReceived.incrementAndGet();
+        pendingEvents++;
+        lastEventTime = System.currentTimeMillis();
         if (ApplicationManager.getApplication().isUnitTestMode()) {
             notifyChanges();
-        } else {
-            debounceTask = new TimerTask() {
-                @Override
-                public void run() {
-                    try {
-                        notifyChanges();
-                    } catch (Throwable t) {
-                        //Need to catch time task exceptions, or it will cancel the timer
-                        LOGGER.error("Failed to notify classpath resource change", t);
-                    }
-                }
-            };
+        } else if (flushTask == null) {
+            flushTask = AppExecutorUtil.getAppScheduledExecutorService()
+                    .schedule(this::flushIfIdle, getDebounceDelay(), TimeUnit.MILLISECONDS);
+        }
+    }
 
-            if (debounceTimer == null) {
-                debounceTimer = new Timer();
-            }
+    private long getDebounceDelay() {
+        return pendingEvents >= BULK_THRESHOLD ? BULK_DEBOUNCE_DELAY : DEBOUNCE_DELAY;
+    }
 
-            debounceTimer.schedule(debounceTask, DEBOUNCE_DELAY);
+    private void flushIfIdle() {
+        synchronized (this) {
+            if (isDisposed()) {
+                return;
+            }
+            long remainingDelay = lastEventTime + getDebounceDelay() - System.currentTimeMillis();
+            if (remainingDelay > 0) {
+                // Changes have been received since the flush has been scheduled, wait until they stop
+                flushTask = AppExecutorUtil.getAppScheduledExecutorService()
+                        .schedule(this::flushIfIdle, remainingDelay, TimeUnit.MILLISECONDS);
+                return;
+            }
+        }
+        try {
+            notifyChanges();
+        } catch (Throwable t) {
+            LOGGER.error("Failed to notify classpath resource change", t);
+        } finally {
+            synchronized (this) {
+                // The flush task is cleared once the batch is published, so that batches are never published
+                // concurrently. Changes received during the publish are flushed by a new task.
+                flushTask = null;
+                if (!isDisposed() && (!sourceFiles.isEmpty() || librariesChanged)) {
+                    flushTask = AppExecutorUtil.getAppScheduledExecutorService()
+                            .schedule(this::flushIfIdle, getDebounceDelay(), TimeUnit.MILLISECONDS);
+                }
+            }
         }
     }
 
     private void notifyChanges() {
-        if (isDisposed()) {
-            return;
+        Set<Pair<VirtualFile, Module>> changedSourceFiles;
+        boolean changedLibraries;
+        synchronized (this) {
+            if (isDisposed()) {
+                return;
+            }
+            changedSourceFiles = takeSourceFiles();
+            changedLibraries = librariesChanged;
+            librariesChanged = false;
+            pendingEvents = 0;
         }
-        synchronized (sourceFiles) {
+        notificationsEmitted.incrementAndGet();
+        if (LOGGER.isDebugEnabled()) {
+            Statistics statistics = getStatistics();
+            LOGGER.debug("Classpath resources changed for '" + project.getName() + "': " + changedSourceFiles.size()
+                    + " source files, libraries changed: " + changedLibraries + " (" + statistics.eventsReceived()
+                    + " events received, " + statistics.notificationsEmitted() + " notifications emitted)");
+        }
+        if (!changedSourceFiles.isEmpty()) {
+            if (changedSourceFiles.stream().anyMatch(pair -> PsiMicroProfileProjectManager.isConfigSource(pair.getFirst()))) {
+                configSourcesModificationCount.incrementAndGet();
+            }
             // Java, config sources files has changed
-            project.getMessageBus().syncPublisher(ClasspathResourceChangedManager.TOPIC).sourceFilesChanged(sourceFiles);
-            sourceFiles.clear();
+            project.getMessageBus().syncPublisher(ClasspathResourceChangedManager.TOPIC).sourceFilesChanged(changedSourceFiles);
         }
-        if (librariesChanged) {
+        if (changedLibraries) {
             // Java Libraries has changed
             if (ApplicationManager.getApplication().isUnitTestMode()) {
                 // Send the libraries changed event
                 project.getMessageBus().syncPublisher(ClasspathResourceChangedManager.TOPIC).librariesChanged();
-                librariesChanged = false;
             } else {
                 // There are some preprocessor (ex : Quarkus deployment preprocessor to load Quarkus deployment dependencies in the classpath).
                 ApplicationManager.getApplication().invokeLater(() -> {
@@ -129,7 +220,6 @@ public class ClasspathResourceChangedNotifier implements Disposable {
                             } finally {
                                 // Send the libraries changed event
                                 project.getMessageBus().syncPublisher(ClasspathResourceChangedManager.TOPIC).librariesChanged();
-                                librariesChanged = false;
                             }
                         }
                     }.queue();
@@ -138,23 +228,32 @@ public class ClasspathResourceChangedNotifier implements Disposable {
         }
     }
 
+    /**
+     * Returns an immutable snapshot of the pending source files grouped per module and starts a new batch.
+     */
+    private Set<Pair<VirtualFile, Module>> takeSourceFiles() {
+        if (sourceFiles.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<Pair<VirtualFile, Module>> snapshot = new LinkedHashSet<>();
+        sourceFiles.forEach((module, files) -> files.forEach(file -> snapshot.add(Pair.pair(file, module))));
+        sourceFiles = new LinkedHashMap<>();
+        return Collections.unmodifiableSet(snapshot);
+    }
+
     public boolean isDisposed() {
         return disposed;
     }
 
     @Override
-    public void dispose() {
+    public synchronized void dispose() {
         if (isDisposed()) {
             return;
         }
         this.disposed = true;
-        if (debounceTask != null) {
-            debounceTask.cancel();
-            debounceTask = null;
-        }
-        if (debounceTimer != null) {
-            debounceTimer.cancel();
-            debounceTimer = null;
+        if (flushTask != null) {
+            flushTask.cancel(false);
+            flushTask = null;
         }
     }
 }
\ No newline at end of file
@@ -1,7 +1,5 @@
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.core;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.intellij.psi.PsiModifierListOwner;
 import com.intellij.util.Query;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.IPropertiesCollector.MergingStrategy;
@@ -12,9 +10,6 @@ import org.slf4j.LoggerFactory;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.Reader;
-import java.nio.charset.StandardCharsets;
 
 /**
  * Abstract class for static properties provider.
@@ -31,8 +26,6 @@ public abstract class AbstractStaticPropertiesProvider extends AbstractPropertie
 
 	private final String path;
 
-	private ConfigurationMetadata metadata;
-
 	private final MergingStrategy mergingStrategy;
 
 	public AbstractStaticPropertiesProvider(String path) {
@@ -71,12 +64,13 @@ public abstract class AbstractStaticPropertiesProvider extends AbstractPropertie
 	 * @param context the building scope context
 	 */
 	protected void collectStaticProperties(SearchContext context) {
-		if (metadata == null) {
-			try {
-				metadata = getMetadata();
-			} catch (IOException e) {
-				LOGGER.warn(e.getLocalizedMessage(), e);
-			}
+		// The metadata is cached by StaticPropertiesMetadataLoader, which reloads the files outside of the plugin
+		// when they change
+		ConfigurationMetadata metadata = null;
+		try {
+			metadata = getMetadata();
+		} catch (IOException e) {
+			LOGGER.warn(e.getLocalizedMessage(), e);
 		}
 		if (metadata != null) {
 			context.getCollector().merge(metadata, mergingStrategy);
@@ -92,9 +86,12 @@ public abstract class AbstractStaticPropertiesProvider extends AbstractPropertie
 	 * @throws IOException
 	 */
 	protected ConfigurationMetadata getMetadata() throws IOException {
-		InputStream in = getInputStream();
-		Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8.name());
-		return createGson().fromJson(reader, ConfigurationMetadata.class);
+		if (path == null) {
+			return null;
+		}
+		// The metadata of the plugin is loaded once from its binary form generated at build time and shared by all
+		// the providers
+		return StaticPropertiesMetadataLoader.load(path, this::getInputStream);
 	}
 
 	/**
@@ -116,13 +113,6 @@ public abstract class AbstractStaticPropertiesProvider extends AbstractPropertie
 		return stream;
 	}
 
-	private static Gson createGson() {
-		// EnumTypeAdapter from LSP4J should be used, but we cannot use EnumTypeAdapter from LSP4J
-		// coming from LSP4IJ to avoid classpath issues we use a copy of EnumTypeAdapter
-		return new GsonBuilder().registerTypeAdapterFactory(new EnumTypeAdapter.Factory()).create();
-	}
-
-
 	@Override
 	public void collectProperties(PsiModifierListOwner match, SearchContext context) {
 		// Do nothing
@@ -0,0 +1,345 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.intellij.ide.plugins.IdeaPluginDescriptor;
+import com.intellij.ide.plugins.PluginManagerCore;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.extensions.PluginId;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.vfs.JarFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Application-level cache of the MicroProfile properties metadata contributed by the Java elements of a library JAR.
+ *
+ * <p>
+ * The metadata of a JAR depends on the properties providers which search it and on the types of their search patterns
+ * which are resolved with the module classpath. It is keyed by the SHA-256 of the JAR content, the hash of this provider
+ * set and the document format, so that it is shared by all the modules which resolve the same provider types, in all
+ * the projects. It is stored under the IDE system directory to be reused after a restart, in a directory versioned with
+ * the plugin version and build time since the metadata depends on the properties providers.
+ * </p>
+ *
+ * <p>
+ * The JAR hashes are computed with {@link #computeJarHashes(Collection, ProgressIndicator)} outside of a read action,
+ * since hashing a large JAR reads its whole content. Empty metadata is stored too, so that the JARs which contribute
+ * no properties are not searched again. The directories of the other plugin builds are deleted and the entries which
+ * have not been used for {@link #MAX_UNUSED_DURATION} or which exceed {@link #MAX_DISK_ENTRIES} are evicted, least
+ * recently used first, when the cache is created.
+ * </p>
+ */
+@Service(Service.Level.APP)
+public final class LibraryPropertiesCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibraryPropertiesCache.class);
+
+    private static final String PLUGIN_ID = "open-liberty.intellij";
+
+    private static final int MAX_DISK_ENTRIES = 2000;
+    private static final Duration MAX_UNUSED_DURATION = Duration.ofDays(30);
+
+    private record JarStamp(Path path, long size, long lastModified) {
+    }
+
+    private final Path cacheDir;
+    private final Gson gson = new GsonBuilder().registerTypeAdapterFactory(new EnumTypeAdapter.Factory()).create();
+    private final Map<String, ConfigurationMetadata> metadataByKey = new ConcurrentHashMap<>();
+    private final Map<JarStamp, String> hashByJar = new ConcurrentHashMap<>();
+
+    public static LibraryPropertiesCache getInstance() {
+        return ApplicationManager.getApplication().getService(LibraryPropertiesCache.class);
+    }
+
+    public LibraryPropertiesCache() {
+        cacheDir = PathManager.getSystemDir().resolve("liberty-tools").resolve("microprofile-metadata").resolve(getBuildId());
+        AppExecutorUtil.getAppExecutorService().execute(this::evictDiskEntries);
+    }
+
+    /**
+     * Returns the identifier of the plugin build. The version of a development build doesn't change when the
+     * properties providers change, so the build time of the plugin is part of the identifier.
+     */
+    private static String getBuildId() {
+        IdeaPluginDescriptor plugin = PluginManagerCore.getPlugin(PluginId.getId(PLUGIN_ID));
+        if (plugin == null) {
+            return "dev";
+        }
+        long buildTime = 0;
+        try {
+            buildTime = Files.getLastModifiedTime(plugin.getPluginPath()).toMillis();
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.warn("Cannot get the build time of the plugin '" + plugin.getPluginPath() + "'", e);
+        }
+        return plugin.getVersion() + "-" + Long.toHexString(buildTime);
+    }
+
+    /**
+     * Computes the SHA-256 of the content of the given library roots which are local JARs and which have not been
+     * hashed yet. It must be called outside of a read action.
+     *
+     * <p>
+     * The hash of a JAR is computed once per size and modification time of the JAR file.
+     * </p>
+     *
+     * @param libraryRoots the library roots.
+     * @param monitor      the progress monitor.
+     */
+    public void computeJarHashes(Collection<VirtualFile> libraryRoots, ProgressIndicator monitor) {
+        for (VirtualFile libraryRoot : libraryRoots) {
+            monitor.checkCanceled();
+            JarStamp stamp = getJarStamp(libraryRoot);
+            if (stamp != null && !hashByJar.containsKey(stamp)) {
+                try {
+                    hashByJar.put(stamp, sha256(stamp.path()));
+                } catch (IOException e) {
+                    LOGGER.warn("Cannot compute the hash of the library '" + stamp.path() + "'", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the SHA-256 of the content of the given library root computed by
+     * {@link #computeJarHashes(Collection, ProgressIndicator)}, or null if the root is not a local JAR or has not been
+     * hashed since it was last modified.
+     *
+     * @param libraryRoot the library root.
+     * @return the SHA-256 of the content of the given library root and null otherwise.
+     */
+    public @Nullable String getJarHash(VirtualFile libraryRoot) {
+        JarStamp stamp = getJarStamp(libraryRoot);
+        return stamp != null ? hashByJar.get(stamp) : null;
+    }
+
+    private static @Nullable JarStamp getJarStamp(VirtualFile libraryRoot) {
+        VirtualFile jarFile = JarFileSystem.getInstance().getVirtualFileForJar(libraryRoot);
+        if (jarFile == null || !jarFile.isInLocalFileSystem()) {
+            return null;
+        }
+        Path jarPath = jarFile.toNioPath();
+        try {
+            return new JarStamp(jarPath, Files.size(jarPath), Files.getLastModifiedTime(jarPath).toMillis());
+        } catch (IOException e) {
+            LOGGER.warn("Cannot read the attributes of the library '" + jarPath + "'", e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the hash of a provider set from the identifiers of its providers (the class name of a provider and the
+     * types of its search patterns resolved with the module classpath).
+     *
+     * @param providerIds the identifiers of the providers.
+     * @return the hash of the provider set.
+     */
+    public static String getProvidersHash(Collection<String> providerIds) {
+        MessageDigest digest = createDigest();
+        providerIds.stream().sorted().distinct().forEach(id -> {
+            digest.update(id.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        });
+        // The providers hash only needs to tell the provider sets apart, keep the file names short
+        return HexFormat.of().formatHex(digest.digest(), 0, 8);
+    }
+
+    /**
+     * Returns the cache key of the JAR with the given hash searched with the provider set with the given hash.
+     *
+     * @param jarHash        the SHA-256 of the JAR content.
+     * @param providersHash  the hash of the provider set.
+     * @param documentFormat the document format of the descriptions.
+     * @return the cache key.
+     */
+    public static String getKey(String jarHash, String providersHash, DocumentFormat documentFormat) {
+        return jarHash + "-" + providersHash + "-" + documentFormat.name().toLowerCase();
+    }
+
+    /**
+     * Returns the metadata stored for the given key and null otherwise.
+     *
+     * @param key the cache key.
+     * @return the metadata stored for the given key and null otherwise.
+     */
+    public @Nullable ConfigurationMetadata get(String key) {
+        ConfigurationMetadata metadata = metadataByKey.get(key);
+        if (metadata != null) {
+            return metadata;
+        }
+        Path file = getFile(key);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            metadata = gson.fromJson(reader, ConfigurationMetadata.class);
+        } catch (Exception e) {
+            LOGGER.warn("Cannot read the cached MicroProfile properties metadata '" + file + "'", e);
+            return null;
+        }
+        if (metadata != null) {
+            metadataByKey.put(key, metadata);
+            touch(file);
+        }
+        return metadata;
+    }
+
+    /**
+     * Stores the metadata for the given key in memory and on disk. The metadata is empty when the library contributes
+     * no properties.
+     *
+     * @param key      the cache key.
+     * @param metadata the metadata contributed by the library.
+     */
+    public void put(String key, ConfigurationMetadata metadata) {
+        metadataByKey.put(key, metadata);
+        Path file = getFile(key);
+        Path tempFile = null;
+        try {
+            Files.createDirectories(cacheDir);
+            // Write to a temporary file first so that other IDE instances never read a partial file
+            tempFile = Files.createTempFile(cacheDir, key, ".tmp");
+            try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                gson.toJson(metadata, writer);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Cannot write the cached MicroProfile properties metadata '" + file + "'", e);
+            deleteQuietly(tempFile);
+        }
+    }
+
+    private static void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // Ignore, the entry is only evicted earlier
+        }
+    }
+
+    /**
+     * Deletes the directories of the other plugin builds, the entries which have not been used for
+     * {@link #MAX_UNUSED_DURATION} and the least recently used entries above {@link #MAX_DISK_ENTRIES}.
+     */
+    private void evictDiskEntries() {
+        Path parentDir = cacheDir.getParent();
+        if (!Files.isDirectory(parentDir)) {
+            return;
+        }
+        try (Stream<Path> buildDirs = Files.list(parentDir)) {
+            for (Path buildDir : buildDirs.filter(dir -> !dir.equals(cacheDir)).toList()) {
+                deleteDirectory(buildDir);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Cannot delete the outdated MicroProfile properties metadata in '" + parentDir + "'", e);
+        }
+        if (!Files.isDirectory(cacheDir)) {
+            return;
+        }
+        record Entry(Path file, long lastUsed) {
+        }
+        List<Entry> entries = new ArrayList<>();
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            for (Path file : files.toList()) {
+                try {
+                    entries.add(new Entry(file, Files.getLastModifiedTime(file).toMillis()));
+                } catch (IOException e) {
+                    // The file has been deleted in the meantime
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Cannot list the MicroProfile properties metadata in '" + cacheDir + "'", e);
+            return;
+        }
+        entries.sort(Comparator.comparingLong(Entry::lastUsed).reversed());
+        long oldestAllowed = System.currentTimeMillis() - MAX_UNUSED_DURATION.toMillis();
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            if (i >= MAX_DISK_ENTRIES || entry.lastUsed() < oldestAllowed) {
+                deleteQuietly(entry.file());
+            }
+        }
+    }
+
+    private static void deleteDirectory(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private static void deleteQuietly(@Nullable Path file) {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                // Ignore, a stale temporary file is never read
+            }
+        }
+    }
+
+    private Path getFile(String key) {
+        return cacheDir.resolve(key + ".json");
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String sha256(Path file) throws IOException {
+        MessageDigest digest = createDigest();
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                // Hashing a large JAR takes a while, let the cancellation of the background task stop it
+                ProgressManager.checkCanceled();
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.messages.MessageBusConnection;
+import io.openliberty.tools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
+import io.openliberty.tools.intellij.util.LibertyToolPluginDisposable;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Project-level store of the MicroProfile properties metadata collected by {@link PropertiesManager}.
+ *
+ * <p>
+ * The metadata of a module is stored per library JAR and for the other files, so that the libraries are not searched
+ * again when a source file changes:
+ * </p>
+ * <ul>
+ *     <li>when libraries change, the whole store is cleared and the next request rescans the modules.</li>
+ *     <li>when a Java file changes, the sources of every module are marked as changed and the next request searches
+ *     all the source files of the module again, because the properties of a file can depend on the types declared in
+ *     other files (ex : the type of a <code>@ConfigProperties</code> field).</li>
+ * </ul>
+ */
+public final class MicroProfilePropertiesStore implements Disposable {
+
+    public static MicroProfilePropertiesStore getInstance(@NotNull Project project) {
+        return project.getService(MicroProfilePropertiesStore.class);
+    }
+
+    private record StoreKey(Module module, List<MicroProfilePropertiesScope> scopes, ClasspathKind classpathKind,
+                            DocumentFormat documentFormat) {
+    }
+
+    /**
+     * Properties metadata of a module collected for a given scope, classpath kind and document format.
+     *
+     * <p>
+     * Callers must hold the lock of the instance (see {@link #lock()}) to read or update the metadata.
+     * </p>
+     */
+    public static final class ModuleProperties {
+
+        private static final long NOT_COMPUTED = -1;
+
+        private final ReentrantLock lock = new ReentrantLock();
+        // Metadata contributed by each library JAR, kept when the source files are searched again
+        private final Map<VirtualFile, ConfigurationMetadata> libraryMetadata = new LinkedHashMap<>();
+        private ConfigurationMetadata sourceMetadata;
+        private final AtomicBoolean sourcesChanged = new AtomicBoolean();
+        private volatile long rootsModificationCount = NOT_COMPUTED;
+
+        /**
+         * Acquires the lock of the instance. The wait is cancelled with the current progress, so that a read action
+         * waiting for the search of another thread doesn't prevent a write action from being run.
+         */
+        public void lock() {
+            try {
+                while (!lock.tryLock(10, TimeUnit.MILLISECONDS)) {
+                    ProgressManager.checkCanceled();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ProcessCanceledException(e);
+            }
+        }
+
+        /**
+         * Releases the lock of the instance.
+         */
+        public void unlock() {
+            lock.unlock();
+        }
+
+        /**
+         * Returns true if the module must be fully searched, because it has never been searched or because its roots
+         * have changed since it was searched, and false otherwise.
+         *
+         * @param rootsModificationCount the current modification count of the project roots.
+         * @return true if the module must be fully searched and false otherwise.
+         */
+        public boolean needsFullScan(long rootsModificationCount) {
+            return this.rootsModificationCount == NOT_COMPUTED || this.rootsModificationCount != rootsModificationCount;
+        }
+
+        /**
+         * Replaces all the metadata with the result of a full search.
+         *
+         * @param libraryMetadata        the metadata contributed by each library JAR.
+         * @param sourceMetadata         the metadata contributed by the other files.
+         * @param rootsModificationCount the modification count of the project roots used by the search.
+         */
+        public void setMetadata(Map<VirtualFile, ConfigurationMetadata> libraryMetadata,
+                                ConfigurationMetadata sourceMetadata, long rootsModificationCount) {
+            this.libraryMetadata.clear();
+            this.libraryMetadata.putAll(libraryMetadata);
+            this.sourceMetadata = sourceMetadata;
+            this.rootsModificationCount = rootsModificationCount;
+        }
+
+        /**
+         * Replaces the metadata of the files which are not library JARs with the result of a search of the source
+         * files.
+         *
+         * @param sourceMetadata the metadata contributed by the files which are not library JARs.
+         */
+        public void setSourceMetadata(ConfigurationMetadata sourceMetadata) {
+            this.sourceMetadata = sourceMetadata;
+        }
+
+        /**
+         * Returns the library JARs whose metadata are kept when the source files are searched again.
+         *
+         * @return the library JARs.
+         */
+        public Set<VirtualFile> getLibraryRoots() {
+            return Collections.unmodifiableSet(libraryMetadata.keySet());
+        }
+
+        /**
+         * Returns the metadata of each library JAR followed by the metadata of the other files.
+         *
+         * @return the metadata of the module.
+         */
+        public List<ConfigurationMetadata> getMetadata() {
+            List<ConfigurationMetadata> metadata = new ArrayList<>(libraryMetadata.values());
+            if (sourceMetadata != null) {
+                metadata.add(sourceMetadata);
+            }
+            return metadata;
+        }
+
+        /**
+         * Returns true if a Java file has changed since the last search and clears the flag.
+         *
+         * @return true if a Java file has changed since the last search and false otherwise.
+         */
+        public boolean takeSourcesChanged() {
+            return sourcesChanged.getAndSet(false);
+        }
+
+        /**
+         * Marks the source files as changed since the last search.
+         */
+        public void markSourcesChanged() {
+            sourcesChanged.set(true);
+        }
+    }
+
+    private final Map<StoreKey, ModuleProperties> moduleProperties = new ConcurrentHashMap<>();
+
+    private final MessageBusConnection connection;
+
+    private class PropertiesStoreListener implements ClasspathResourceChangedManager.Listener {
+
+        @Override
+        public void librariesChanged() {
+            clear();
+        }
+
+        @Override
+        public void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources) {
+            if (sources.stream().anyMatch(pair -> PsiMicroProfileProjectManager.isJavaFile(pair.getFirst()))) {
+                // A Java file can contribute properties to the modules which depend on its module.
+                moduleProperties.values().forEach(ModuleProperties::markSourcesChanged);
+            }
+        }
+    }
+
+    private MicroProfilePropertiesStore(Project project) {
+        connection = project.getMessageBus().connect(LibertyToolPluginDisposable.getInstance(project));
+        connection.subscribe(ClasspathResourceChangedManager.TOPIC, new PropertiesStoreListener());
+    }
+
+    /**
+     * Returns the properties metadata of the given module for the given scope, classpath kind and document format.
+     *
+     * @param module         the module.
+     * @param scopes         the search scopes.
+     * @param classpathKind  the classpath kind.
+     * @param documentFormat the document format of the descriptions.
+     * @return the properties metadata of the given module.
+     */
+    public ModuleProperties getModuleProperties(Module module, List<MicroProfilePropertiesScope> scopes,
+                                                ClasspathKind classpathKind, DocumentFormat documentFormat) {
+        moduleProperties.keySet().removeIf(key -> key.module().isDisposed());
+        return moduleProperties.computeIfAbsent(new StoreKey(module, List.copyOf(scopes), classpathKind, documentFormat),
+                key -> new ModuleProperties());
+    }
+
+    /**
+     * Clears the whole store.
+     */
+    public void clear() {
+        moduleProperties.clear();
+    }
+
+    @Override
+    public void dispose() {
+        clear();
+        connection.disconnect();
+    }
+}
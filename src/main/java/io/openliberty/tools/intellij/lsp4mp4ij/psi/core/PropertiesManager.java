@@ -10,8 +10,13 @@
  ******************************************************************************/
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.core;
 
+import com.intellij.concurrency.JobLauncher;
+import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.roots.OrderEnumerator;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.vfs.JarFileSystem;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiFile;
@@ -19,8 +24,8 @@ import com.intellij.psi.PsiMember;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifierListOwner;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.GlobalSearchScopesCore;
 import com.intellij.psi.search.SearchScope;
-import com.intellij.util.MergeQuery;
 import com.intellij.util.Query;
 import com.intellij.util.UniqueResultsQuery;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
@@ -35,6 +40,9 @@ import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertyDefinitionParams;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -42,8 +50,15 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -70,12 +85,64 @@ public class PropertiesManager {
     }
 
     public MicroProfileProjectInfo getMicroProfileProjectInfo(MicroProfileProjectInfoParams params, IPsiUtils utils, ProgressIndicator monitor) {
+        VirtualFile file = findFile(params, utils);
+        return getMicroProfileProjectInfo(file, params.getScopes(), utils, params.getDocumentFormat(), monitor);
+    }
+
+    /**
+     * Returns the MicroProfile project information of the given params where only the sources of the module are
+     * searched, the static properties being collected as usual.
+     *
+     * <p>
+     * It is used to answer quickly when the dependencies of the module have not been searched yet (see
+     * {@link #isMicroProfileProjectInfoCollected(MicroProfileProjectInfoParams, IPsiUtils)}).
+     * </p>
+     *
+     * @param params  the MicroProfile project information params.
+     * @param utils   the PSI utilities.
+     * @param monitor the progress monitor.
+     * @return the MicroProfile project information of the sources of the module.
+     */
+    public MicroProfileProjectInfo getMicroProfileProjectInfoFromSources(MicroProfileProjectInfoParams params, IPsiUtils utils,
+                                                                         ProgressIndicator monitor) {
+        VirtualFile file = findFile(params, utils);
+        Module module = utils.getModule(file);
+        ClasspathKind classpathKind = PsiUtilsLSImpl.getClasspathKind(file, module);
+        return getMicroProfileProjectInfo(module, params.getScopes(), MicroProfilePropertiesScope.ONLY_SOURCES,
+                classpathKind, utils, params.getDocumentFormat(), monitor);
+    }
+
+    /**
+     * Returns true if the properties of the module of the given params have already been searched in the requested
+     * scopes, in which case only the source files are searched again when they have changed, and false otherwise.
+     *
+     * @param params the MicroProfile project information params.
+     * @param utils  the PSI utilities.
+     * @return true if the properties of the module of the given params have already been searched and false otherwise.
+     */
+    public boolean isMicroProfileProjectInfoCollected(MicroProfileProjectInfoParams params, IPsiUtils utils) {
+        VirtualFile file = findFile(params, utils);
+        Module module = utils.getModule(file);
+        if (module == null) {
+            return true;
+        }
+        ClasspathKind classpathKind = PsiUtilsLSImpl.getClasspathKind(file, module);
+        if (classpathKind == ClasspathKind.NONE) {
+            return true;
+        }
+        MicroProfilePropertiesStore.ModuleProperties moduleProperties = MicroProfilePropertiesStore.getInstance(module.getProject())
+                .getModuleProperties(module, params.getScopes(), classpathKind, params.getDocumentFormat());
+        long rootsModificationCount = ProjectRootManager.getInstance(module.getProject()).getModificationCount();
+        return !moduleProperties.needsFullScan(rootsModificationCount);
+    }
+
+    private static VirtualFile findFile(MicroProfileProjectInfoParams params, IPsiUtils utils) {
         try {
             VirtualFile file = utils.findFile(params.getUri());
             if (file == null) {
                 throw new UnsupportedOperationException(String.format("Cannot find virtual file for '%s'", params.getUri()));
             }
-            return getMicroProfileProjectInfo(file, params.getScopes(), utils, params.getDocumentFormat(), monitor);
+            return file;
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -90,55 +157,354 @@ public class PropertiesManager {
     public MicroProfileProjectInfo getMicroProfileProjectInfo(Module module,
                                                               List<MicroProfilePropertiesScope> scopes, ClasspathKind classpathKind, IPsiUtils utils,
                                                               DocumentFormat documentFormat, ProgressIndicator monitor) {
+        return getMicroProfileProjectInfo(module, scopes, scopes, classpathKind, utils, documentFormat, monitor);
+    }
+
+    /**
+     * Returns the MicroProfile project information of the given module where the properties are searched in the
+     * given searched scopes and filtered according to the requested scopes.
+     */
+    private MicroProfileProjectInfo getMicroProfileProjectInfo(Module module, List<MicroProfilePropertiesScope> scopes,
+                                                               List<MicroProfilePropertiesScope> searchedScopes,
+                                                               ClasspathKind classpathKind, IPsiUtils utils,
+                                                               DocumentFormat documentFormat, ProgressIndicator monitor) {
         MicroProfileProjectInfo info = createInfo(module, classpathKind);
         if (classpathKind == ClasspathKind.NONE) {
             info.setProperties(Collections.emptyList());
             return info;
         }
-        monitor.setText("Scanning MicroProfile properties for '" + module.getName() + "' project in '" + scopes.stream() //
+        monitor.setText("Scanning MicroProfile properties for '" + module.getName() + "' project in '" + searchedScopes.stream() //
                 .map(MicroProfilePropertiesScope::name) //
                 .collect(Collectors.joining("+")) //
                 + "'");
         long startTime = System.currentTimeMillis();
-        boolean excludeTestCode = classpathKind == ClasspathKind.SRC;
         PropertiesCollector collector = new PropertiesCollector(info, scopes);
         if (module != null) {
-            SearchScope scope = createSearchScope(module, scopes, classpathKind == ClasspathKind.TEST);
-            SearchContext context = new SearchContext(module, scope, collector, utils, documentFormat);
-            Query<PsiModifierListOwner> query = createSearchQuery(context);
-            if (query != null) {
-                try {
-                    beginSearch(context, monitor);
-                    query.forEach((Consumer<? super PsiModifierListOwner>) psiMember -> collectProperties(psiMember, context, monitor));
-                }
-                finally {
-                    endSearch(context, monitor);
-                }
+            SearchScope scope = createSearchScope(module, searchedScopes, classpathKind == ClasspathKind.TEST);
+            MicroProfilePropertiesStore.ModuleProperties moduleProperties = MicroProfilePropertiesStore.getInstance(module.getProject())
+                    .getModuleProperties(module, searchedScopes, classpathKind, documentFormat);
+            // The lock is acquired in a cancellable way: a request waiting for the search of another request is
+            // cancelled with its read action.
+            moduleProperties.lock();
+            try {
+                updateModuleProperties(moduleProperties, module, scope, searchedScopes, utils, documentFormat, monitor);
+                mergeModuleProperties(moduleProperties, info, collector);
+            } finally {
+                moduleProperties.unlock();
             }
+            // Static properties are merged with the properties of the module so they are collected on each request
+            SearchContext context = new SearchContext(module, scope, collector, utils, documentFormat);
+            beginSearch(context, monitor);
+            endSearch(context, monitor);
         }
         LOGGER.info("End computing MicroProfile properties for '" + info.getProjectURI() + "' in "
                 + (System.currentTimeMillis() - startTime) + "ms.");
         return info;
     }
 
-    private void beginSearch(SearchContext context, ProgressIndicator monitor) {
+    /**
+     * Searches the whole module when its roots have changed, or only the files which are not library JARs when a Java
+     * file has changed since the last search.
+     *
+     * <p>
+     * All the source files are searched again and not only the changed ones, because the properties contributed by a
+     * file can depend on the types declared in other files, of the module or of the modules it depends on (ex : the
+     * type of a <code>@ConfigProperties</code> field).
+     * </p>
+     */
+    private void updateModuleProperties(MicroProfilePropertiesStore.ModuleProperties moduleProperties, Module module,
+                                        SearchScope scope, List<MicroProfilePropertiesScope> scopes, IPsiUtils utils,
+                                        DocumentFormat documentFormat, ProgressIndicator monitor) {
+        long rootsModificationCount = ProjectRootManager.getInstance(module.getProject()).getModificationCount();
+        boolean sourcesChanged = moduleProperties.takeSourcesChanged();
+        try {
+            if (moduleProperties.needsFullScan(rootsModificationCount)) {
+                Map<VirtualFile, ConfigurationMetadata> libraryMetadata = collectLibraryProperties(module, scope, scopes,
+                        utils, documentFormat, monitor);
+                moduleProperties.setMetadata(libraryMetadata,
+                        collectSourceProperties(module, scope, libraryMetadata.keySet(), scopes, utils, documentFormat, monitor),
+                        rootsModificationCount);
+            } else if (sourcesChanged) {
+                moduleProperties.setSourceMetadata(collectSourceProperties(module, scope,
+                        moduleProperties.getLibraryRoots(), scopes, utils, documentFormat, monitor));
+            }
+        } catch (RuntimeException e) {
+            // The search has been cancelled or has failed, search the sources again on the next request
+            if (sourcesChanged) {
+                moduleProperties.markSourcesChanged();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Computes the hash of the library JARs of the module of the given params, which are used by the
+     * {@link LibraryPropertiesCache} keys. It must be called outside of a read action: the library roots are listed in
+     * a short read action and the JARs are hashed outside of it, so that the search of the module doesn't hash them.
+     *
+     * @param params  the MicroProfile project information params.
+     * @param utils   the PSI utilities.
+     * @param monitor the progress monitor.
+     */
+    public void computeLibraryHashes(MicroProfileProjectInfoParams params, IPsiUtils utils, ProgressIndicator monitor) {
+        if (MicroProfilePropertiesScope.isOnlySources(params.getScopes())) {
+            return;
+        }
+        List<VirtualFile> libraryRoots = ReadAction.compute(() -> {
+            Module module = utils.getModule(findFile(params, utils));
+            if (module == null || module.isDisposed()) {
+                return List.of();
+            }
+            return List.of(OrderEnumerator.orderEntries(module).recursively().librariesOnly().classes().getRoots());
+        });
+        LibraryPropertiesCache.getInstance().computeJarHashes(libraryRoots, monitor);
+    }
+
+    /**
+     * Returns the properties metadata contributed by each library JAR of the given module scope.
+     *
+     * <p>
+     * When the scope includes the dependencies, the metadata of the library JARs hashed by
+     * {@link #computeLibraryHashes(MicroProfileProjectInfoParams, IPsiUtils, ProgressIndicator)} is shared through the
+     * {@link LibraryPropertiesCache} by the modules which resolve the same provider types. The JARs which are not
+     * cached yet are searched together and their metadata is split per JAR. The JARs which have not been hashed are
+     * not returned, they are searched with the source files.
+     * </p>
+     */
+    private Map<VirtualFile, ConfigurationMetadata> collectLibraryProperties(Module module, SearchScope scope,
+                                                                             List<MicroProfilePropertiesScope> scopes,
+                                                                             IPsiUtils utils, DocumentFormat documentFormat,
+                                                                             ProgressIndicator monitor) {
+        Map<VirtualFile, ConfigurationMetadata> metadataByJar = new LinkedHashMap<>();
+        if (!MicroProfilePropertiesScope.isOnlySources(scopes) && scope instanceof GlobalSearchScope globalScope) {
+            LibraryPropertiesCache cache = LibraryPropertiesCache.getInstance();
+            String providersHash = getProvidersHash(module, utils);
+            // Keys of the JARs which are not cached yet
+            Map<VirtualFile, String> uncachedJars = new LinkedHashMap<>();
+            for (VirtualFile root : OrderEnumerator.orderEntries(module).recursively().librariesOnly().classes().getRoots()) {
+                monitor.checkCanceled();
+                if (!globalScope.contains(root)) {
+                    continue;
+                }
+                String jarHash = cache.getJarHash(root);
+                if (jarHash == null) {
+                    continue;
+                }
+                String key = LibraryPropertiesCache.getKey(jarHash, providersHash, documentFormat);
+                ConfigurationMetadata metadata = cache.get(key);
+                if (metadata != null) {
+                    metadataByJar.put(root, metadata);
+                } else {
+                    uncachedJars.put(root, key);
+                }
+            }
+            if (!uncachedJars.isEmpty()) {
+                Map<VirtualFile, ConfigurationMetadata> searchedMetadata = collectProperties(module,
+                        GlobalSearchScopesCore.directoriesScope(module.getProject(), true,
+                                uncachedJars.keySet().toArray(VirtualFile[]::new)), scopes, utils, documentFormat, monitor);
+                for (Map.Entry<VirtualFile, String> jar : uncachedJars.entrySet()) {
+                    // The JARs which contribute no properties are cached with empty metadata
+                    ConfigurationMetadata metadata = searchedMetadata.getOrDefault(jar.getKey(), createMetadata());
+                    cache.put(jar.getValue(), metadata);
+                    metadataByJar.put(jar.getKey(), metadata);
+                }
+            }
+        }
+        return metadataByJar;
+    }
+
+    /**
+     * Returns the hash of the properties providers applied to the given module: the class name of each provider and
+     * the types of its search patterns which are resolved with the module classpath. The metadata of a JAR only
+     * depends on them.
+     */
+    private String getProvidersHash(Module module, IPsiUtils utils) {
+        List<String> providerIds = new ArrayList<>();
         for (IPropertiesProvider provider : getPropertiesProviders()) {
-            monitor.checkCanceled();
-            provider.beginSearch(context);
+            String providerId = provider.getClass().getName();
+            String[] patterns = provider instanceof AbstractPropertiesProvider abstractProvider ? abstractProvider.getPatterns() : null;
+            if (patterns == null) {
+                providerIds.add(providerId);
+                continue;
+            }
+            for (String pattern : patterns) {
+                if (utils.findClass(module, pattern) != null) {
+                    providerIds.add(providerId + "#" + pattern);
+                }
+            }
         }
+        return LibraryPropertiesCache.getProvidersHash(providerIds);
     }
 
-    private void endSearch(SearchContext context, ProgressIndicator monitor) {
+    /**
+     * Returns the properties metadata contributed by the files of the given module scope which are not in one of the
+     * given library JARs.
+     */
+    private ConfigurationMetadata collectSourceProperties(Module module, SearchScope scope,
+                                                                            Set<VirtualFile> jarRoots,
+                                                                            List<MicroProfilePropertiesScope> scopes,
+                                                                            IPsiUtils utils, DocumentFormat documentFormat,
+                                                                            ProgressIndicator monitor) {
+        SearchScope otherFilesScope = jarRoots.isEmpty() ? scope : scope.intersectWith(GlobalSearchScope.notScope(
+                GlobalSearchScopesCore.directoriesScope(module.getProject(), true, jarRoots.toArray(VirtualFile[]::new))));
+        return mergeMetadata(collectProperties(module, otherFilesScope, scopes, utils, documentFormat, monitor).values());
+    }
+
+    private static ConfigurationMetadata createMetadata() {
+        ConfigurationMetadata metadata = new ConfigurationMetadata();
+        metadata.setProperties(new ArrayList<>());
+        metadata.setHints(new ArrayList<>());
+        return metadata;
+    }
+
+    private static ConfigurationMetadata mergeMetadata(Collection<ConfigurationMetadata> metadataList) {
+        ConfigurationMetadata merged = createMetadata();
+        for (ConfigurationMetadata metadata : metadataList) {
+            merged.getProperties().addAll(metadata.getProperties());
+            merged.getHints().addAll(metadata.getHints());
+        }
+        return merged;
+    }
+
+    /**
+     * Returns the properties metadata contributed by each library JAR declaring Java elements matched by the
+     * properties providers in the given scope, the metadata of the other files being returned with a null key.
+     *
+     * <p>
+     * The providers search concurrently, each one in its own search contexts and collectors, and their metadata are
+     * merged per JAR in the order of the providers. Each JAR is collected with its own search context so that its
+     * metadata doesn't depend on the other JARs and can be cached.
+     * </p>
+     */
+    private Map<VirtualFile, ConfigurationMetadata> collectProperties(Module module, SearchScope scope,
+                                                                      List<MicroProfilePropertiesScope> scopes,
+                                                                      IPsiUtils utils, DocumentFormat documentFormat,
+                                                                      ProgressIndicator monitor) {
+        List<ProviderSearch> searches = getPropertiesProviders().stream()
+                .map(provider -> new ProviderSearch(provider, module, scope, scopes, utils, documentFormat))
+                .toList();
+        // The tasks run in the read action of the calling thread
+        JobLauncher.getInstance().invokeConcurrentlyUnderProgress(searches, monitor, search -> {
+            search.run(monitor);
+            return true;
+        });
+        Map<VirtualFile, ConfigurationMetadata> metadataByJar = new LinkedHashMap<>();
+        for (ProviderSearch search : searches) {
+            search.metadataByJar.forEach((jarRoot, metadata) -> {
+                ConfigurationMetadata jarMetadata = metadataByJar.computeIfAbsent(jarRoot, r -> createMetadata());
+                jarMetadata.getProperties().addAll(metadata.getProperties());
+                jarMetadata.getHints().addAll(metadata.getHints());
+            });
+        }
+        return metadataByJar;
+    }
+
+    /**
+     * Search of one properties provider, which collects the metadata of each matched library JAR.
+     */
+    private static final class ProviderSearch {
+
+        private final IPropertiesProvider provider;
+        private final Module module;
+        private final SearchScope scope;
+        private final List<MicroProfilePropertiesScope> scopes;
+        private final IPsiUtils utils;
+        private final DocumentFormat documentFormat;
+        private final Map<VirtualFile, ConfigurationMetadata> metadataByJar = new LinkedHashMap<>();
+        private final Map<VirtualFile, SearchContext> contexts = new HashMap<>();
+
+        private ProviderSearch(IPropertiesProvider provider, Module module, SearchScope scope,
+                               List<MicroProfilePropertiesScope> scopes, IPsiUtils utils, DocumentFormat documentFormat) {
+            this.provider = provider;
+            this.module = module;
+            this.scope = scope;
+            this.scopes = scopes;
+            this.utils = utils;
+            this.documentFormat = documentFormat;
+        }
+
+        private void run(ProgressIndicator monitor) {
+            Query<PsiModifierListOwner> query = provider.createSearchPattern(createContext(new ConfigurationMetadata()));
+            if (query == null) {
+                return;
+            }
+            try {
+                new UniqueResultsQuery<>(query).forEach((Consumer<? super PsiModifierListOwner>) psiMember -> {
+                    monitor.checkCanceled();
+                    SearchContext context = contexts.computeIfAbsent(getJarRoot(psiMember), r -> {
+                        ConfigurationMetadata metadata = new ConfigurationMetadata();
+                        metadataByJar.put(r, metadata);
+                        SearchContext jarContext = createContext(metadata);
+                        provider.beginSearch(jarContext);
+                        return jarContext;
+                    });
+                    provider.collectProperties(psiMember, context);
+                });
+            } finally {
+                for (SearchContext context : contexts.values()) {
+                    provider.endSearch(context);
+                }
+            }
+        }
+
+        private SearchContext createContext(ConfigurationMetadata metadata) {
+            return new SearchContext(module, scope, new PropertiesCollector(metadata, scopes), utils, documentFormat);
+        }
+    }
+
+    private static @Nullable VirtualFile getJarRoot(PsiModifierListOwner psiMember) {
+        PsiFile file = psiMember.getContainingFile();
+        VirtualFile virtualFile = file != null ? file.getOriginalFile().getVirtualFile() : null;
+        return virtualFile != null ? JarFileSystem.getInstance().getRootByEntry(virtualFile) : null;
+    }
+
+    /**
+     * Merges the metadata of each library JAR and of the sources of the given module properties in the given project
+     * info.
+     *
+     * <p>
+     * Properties which don't depend on a Java element (ex : the MicroProfile Rest Client properties) are collected
+     * with each JAR, they are added only once. Hint values are merged by value.
+     * </p>
+     */
+    private static void mergeModuleProperties(MicroProfilePropertiesStore.ModuleProperties moduleProperties,
+                                              MicroProfileProjectInfo info, PropertiesCollector collector) {
+        Set<List<String>> propertyKeys = new HashSet<>();
+        for (ConfigurationMetadata metadata : moduleProperties.getMetadata()) {
+            for (ItemMetadata property : metadata.getProperties()) {
+                if (propertyKeys.add(Arrays.asList(property.getName(), property.getSourceType(),
+                        property.getSourceField(), property.getSourceMethod()))) {
+                    info.getProperties().add(property);
+                }
+            }
+            if (!metadata.getHints().isEmpty()) {
+                for (ItemHint hint : metadata.getHints()) {
+                    ItemHint existingHint = collector.getItemHint(hint.getName());
+                    if (existingHint.getSourceType() == null) {
+                        existingHint.setSourceType(hint.getSourceType());
+                    }
+                    if (Boolean.TRUE.equals(hint.getSource())) {
+                        existingHint.setSource(Boolean.TRUE);
+                    }
+                }
+                ConfigurationMetadata hints = new ConfigurationMetadata();
+                hints.setHints(metadata.getHints());
+                collector.merge(hints, IPropertiesCollector.MergingStrategy.IGNORE_IF_EXISTS);
+            }
+        }
+    }
+
+    private void beginSearch(SearchContext context, ProgressIndicator monitor) {
         for (IPropertiesProvider provider : getPropertiesProviders()) {
             monitor.checkCanceled();
-            provider.endSearch(context);
+            provider.beginSearch(context);
         }
     }
 
-    private void collectProperties(PsiModifierListOwner psiMember, SearchContext context, ProgressIndicator monitor) {
+    private void endSearch(SearchContext context, ProgressIndicator monitor) {
         for (IPropertiesProvider provider : getPropertiesProviders()) {
             monitor.checkCanceled();
-            provider.collectProperties(psiMember, context);
+            provider.endSearch(context);
         }
     }
 
@@ -171,22 +537,6 @@ public class PropertiesManager {
         return searchScope;
     }
 
-    private @Nullable Query<PsiModifierListOwner> createSearchQuery(SearchContext context) {
-        Query<PsiModifierListOwner> query = null;
-
-        for (IPropertiesProvider provider : getPropertiesProviders()) {
-            Query<PsiModifierListOwner> providerQuery = provider.createSearchPattern(context);
-            if (providerQuery != null) {
-                if (query == null) {
-                    query = providerQuery;
-                } else {
-                    query = new MergeQuery<>(query, providerQuery);
-                }
-            }
-        }
-        return new UniqueResultsQuery<>(query);
-    }
-
     @NotNull
     List<IPropertiesProvider> getPropertiesProviders() {
         List<IPropertiesProvider> allProviders = new ArrayList<>();
@@ -41,7 +41,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * JDT quarkus manager for Java files.
@@ -125,10 +125,12 @@ public final class PropertiesManagerForJava {
                 return;
             }
             JavaCodeLensContext context = new JavaCodeLensContext(uri, typeRoot, utils, module, params);
-            List<IJavaCodeLensParticipant> definitions = IJavaCodeLensParticipant.EP_NAME.getExtensionList()
-                    .stream()
-                    .filter(definition -> definition.isAdaptedForCodeLens(context, monitor))
-                    .collect(Collectors.toList());
+            List<IJavaCodeLensParticipant> definitions = new ArrayList<>();
+            for (IJavaCodeLensParticipant definition : IJavaCodeLensParticipant.EP_NAME.getExtensionList()) {
+                if (definition.isAdaptedForCodeLens(context, monitor)) {
+                    definitions.add(definition);
+                }
+            }
             if (definitions.isEmpty()) {
                 return;
             }
@@ -158,6 +160,18 @@ public final class PropertiesManagerForJava {
         return completionHandler.completion(params, utils);
     }
 
+    /**
+     * Returns the CompletionItems and the cursor context given the completion item params, resolving the file once
+     * for both.
+     *
+     * @param params  the completion item params
+     * @param utils   the IJDTUtils
+     * @return the CompletionItems and the cursor context for the given the completion item params
+     */
+    public MicroProfileJavaCompletionResult completionWithCursorContext(MicroProfileJavaCompletionParams params, IPsiUtils utils) {
+        return completionHandler.completionWithCursorContext(params, utils);
+    }
+
     /**
      * Returns the definition list according the given definition parameters.
      *
@@ -195,10 +209,12 @@ public final class PropertiesManagerForJava {
                     // Collect all adapted definition participant
                     JavaDefinitionContext context = new JavaDefinitionContext(uri, typeRoot, utils, module,
                             hyperlinkedElement, hyperlinkedPosition);
-                    List<IJavaDefinitionParticipant> definitions = IJavaDefinitionParticipant.EP_NAME.getExtensionList()
-                            .stream()
-                            .filter(definition -> definition.isAdaptedForDefinition(context))
-                            .toList();
+                    List<IJavaDefinitionParticipant> definitions = new ArrayList<>();
+                    for (IJavaDefinitionParticipant definition : IJavaDefinitionParticipant.EP_NAME.getExtensionList()) {
+                        if (definition.isAdaptedForDefinition(context)) {
+                            definitions.add(definition);
+                        }
+                    }
                     if (definitions.isEmpty()) {
                         return;
                     }
@@ -231,6 +247,18 @@ public final class PropertiesManagerForJava {
         return diagnosticsHandler.collectDiagnostics(params, utils);
     }
 
+    /**
+     * Returns the future of the diagnostics for the given uris list, collected in parallel. This method must be
+     * called outside of a read action.
+     *
+     * @param params the diagnostics parameters
+     * @param utils  the utilities class
+     * @return the future of the diagnostics for the given uris list.
+     */
+    public CompletableFuture<List<PublishDiagnosticsParams>> diagnosticsInParallel(MicroProfileJavaDiagnosticsParams params, IPsiUtils utils) {
+        return diagnosticsHandler.collectDiagnosticsInParallel(params, utils);
+    }
+
     /**
      * Returns the hover information according to the given <code>params</code>
      *
@@ -330,8 +358,12 @@ public final class PropertiesManagerForJava {
                     // Collect all adapted hover participant
                     JavaHoverContext context = new JavaHoverContext(uri, typeRoot, utils, module, hoverElement, hoverPosition,
                             documentFormat, surroundEqualsWithSpaces);
-                    List<IJavaHoverParticipant> definitions = IJavaHoverParticipant.EP_NAME.getExtensionList().stream()
-                            .filter(definition -> definition.isAdaptedForHover(context)).collect(Collectors.toList());
+                    List<IJavaHoverParticipant> definitions = new ArrayList<>();
+                    for (IJavaHoverParticipant definition : IJavaHoverParticipant.EP_NAME.getExtensionList()) {
+                        if (definition.isAdaptedForHover(context)) {
+                            definitions.add(definition);
+                        }
+                    }
                     if (definitions.isEmpty()) {
                         return;
                     }
@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.intellij.openapi.util.ThrowableComputable;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loads the metadata of the static properties providers.
+ *
+ * <p>
+ * The JSON metadata files of the plugin are converted at build time (see the
+ * <code>generateStaticPropertiesMetadata</code> Gradle task) to a compact binary file stored next to the JSON
+ * file with the <code>.bin</code> extension, which is read instead of parsing the JSON file. The JSON file is parsed
+ * only when there is no binary file (ex: metadata file outside of the plugin).
+ * </p>
+ *
+ * <p>
+ * Each metadata file of the plugin is loaded once and the immutable {@link ConfigurationMetadata} is shared by all
+ * the projects. A metadata file outside of the plugin is loaded again when its modification time changes.
+ * </p>
+ *
+ * <p>
+ * Binary format (all integers are big-endian, strings are referenced by their index in the string table, -1 being
+ * null):
+ * </p>
+ * <pre>
+ * int magic ("MPSP"), short version
+ * int stringCount, stringCount x UTF string
+ * int propertyCount, propertyCount x (name, type, description, sourceType, sourceField, sourceMethod, defaultValue,
+ *     extensionName, byte required (0: unset, 1: false, 2: true))
+ * int hintCount, hintCount x (name, sourceType, int valueCount, valueCount x (value, description))
+ * </pre>
+ */
+public final class StaticPropertiesMetadataLoader {
+
+    private static final int MAGIC = 0x4D505350;
+    private static final short VERSION = 1;
+
+    private static final String JSON_EXTENSION = ".json";
+    private static final String BINARY_EXTENSION = ".bin";
+
+    // EnumTypeAdapter from LSP4J should be used, but we cannot use EnumTypeAdapter from LSP4J
+    // coming from LSP4IJ to avoid classpath issues we use a copy of EnumTypeAdapter
+    private static final Gson GSON = new GsonBuilder().registerTypeAdapterFactory(new EnumTypeAdapter.Factory()).create();
+
+    private static final Map<String, ConfigurationMetadata> METADATA_BY_PATH = new ConcurrentHashMap<>();
+    private static final Map<String, ExternalMetadata> EXTERNAL_METADATA_BY_PATH = new ConcurrentHashMap<>();
+
+    private StaticPropertiesMetadataLoader() {
+    }
+
+    /**
+     * Returns the metadata of the given path, loaded from its binary form when available and from the JSON content
+     * returned by the given supplier otherwise.
+     *
+     * @param path the path of the JSON metadata file.
+     * @param json the supplier of the JSON content.
+     * @return the metadata of the given path and null if there is no metadata.
+     * @throws IOException if the metadata cannot be read.
+     */
+    public static @Nullable ConfigurationMetadata load(String path, ThrowableComputable<InputStream, IOException> json) throws IOException {
+        ConfigurationMetadata metadata = METADATA_BY_PATH.get(path);
+        if (metadata != null) {
+            return metadata;
+        }
+        if (StaticPropertiesMetadataLoader.class.getResource(path) == null) {
+            return loadExternal(path, json);
+        }
+        metadata = readBinary(path);
+        if (metadata == null) {
+            metadata = readJson(json);
+            if (metadata == null) {
+                return null;
+            }
+        }
+        ConfigurationMetadata existing = METADATA_BY_PATH.putIfAbsent(path, metadata);
+        return existing != null ? existing : metadata;
+    }
+
+    private static @Nullable ConfigurationMetadata loadExternal(String path, ThrowableComputable<InputStream, IOException> json) throws IOException {
+        Path file = Paths.get(path);
+        if (!Files.isRegularFile(file)) {
+            return readJson(json);
+        }
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        ExternalMetadata cached = EXTERNAL_METADATA_BY_PATH.get(path);
+        if (cached != null && cached.lastModified() == lastModified) {
+            return cached.metadata();
+        }
+        ConfigurationMetadata metadata = readJson(json);
+        if (metadata == null) {
+            EXTERNAL_METADATA_BY_PATH.remove(path);
+            return null;
+        }
+        EXTERNAL_METADATA_BY_PATH.put(path, new ExternalMetadata(lastModified, metadata));
+        return metadata;
+    }
+
+    private static @Nullable ConfigurationMetadata readBinary(String path) throws IOException {
+        if (!path.endsWith(JSON_EXTENSION)) {
+            return null;
+        }
+        String binaryPath = path.substring(0, path.length() - JSON_EXTENSION.length()) + BINARY_EXTENSION;
+        InputStream stream = StaticPropertiesMetadataLoader.class.getResourceAsStream(binaryPath);
+        if (stream == null) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+            if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+                // Binary file of another version of the format, use the JSON file
+                return null;
+            }
+            String[] strings = new String[in.readInt()];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = in.readUTF().intern();
+            }
+            int propertyCount = in.readInt();
+            List<ItemMetadata> properties = new ArrayList<>(propertyCount);
+            for (int i = 0; i < propertyCount; i++) {
+                ItemMetadata property = new ItemMetadata();
+                property.setName(readString(in, strings));
+                property.setType(readString(in, strings));
+                property.setDescription(readString(in, strings));
+                property.setSourceType(readString(in, strings));
+                property.setSourceField(readString(in, strings));
+                property.setSourceMethod(readString(in, strings));
+                property.setDefaultValue(readString(in, strings));
+                property.setExtensionName(readString(in, strings));
+                byte required = in.readByte();
+                if (required != 0) {
+                    property.setRequired(required == 2);
+                }
+                properties.add(property);
+            }
+            int hintCount = in.readInt();
+            List<ItemHint> hints = new ArrayList<>(hintCount);
+            for (int i = 0; i < hintCount; i++) {
+                ItemHint hint = new ItemHint();
+                hint.setName(readString(in, strings));
+                hint.setSourceType(readString(in, strings));
+                int valueCount = in.readInt();
+                List<ValueHint> values = new ArrayList<>(valueCount);
+                for (int j = 0; j < valueCount; j++) {
+                    ValueHint value = new ValueHint();
+                    value.setValue(readString(in, strings));
+                    value.setDescription(readString(in, strings));
+                    values.add(value);
+                }
+                hint.setValues(Collections.unmodifiableList(values));
+                hints.add(hint);
+            }
+            ConfigurationMetadata metadata = new ConfigurationMetadata();
+            metadata.setProperties(Collections.unmodifiableList(properties));
+            metadata.setHints(Collections.unmodifiableList(hints));
+            return metadata;
+        }
+    }
+
+    private static @Nullable String readString(DataInputStream in, String[] strings) throws IOException {
+        int index = in.readInt();
+        return index == -1 ? null : strings[index];
+    }
+
+    private static @Nullable ConfigurationMetadata readJson(ThrowableComputable<InputStream, IOException> json) throws IOException {
+        InputStream in = json.compute();
+        if (in == null) {
+            return null;
+        }
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            return GSON.fromJson(reader, ConfigurationMetadata.class);
+        }
+    }
+
+    /**
+     * Metadata of a file outside of the plugin and the modification time of the file when it was read.
+     */
+    private record ExternalMetadata(long lastModified, ConfigurationMetadata metadata) {
+    }
+}
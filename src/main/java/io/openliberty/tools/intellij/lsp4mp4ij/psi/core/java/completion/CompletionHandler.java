@@ -16,6 +16,7 @@ import com.intellij.openapi.module.Module;
 import com.intellij.openapi.util.Computable;
 import com.intellij.psi.*;
 import com.intellij.psi.util.PsiTreeUtil;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.GroupedExtensions;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.completion.JavaCompletionDefinition;
 import org.eclipse.lsp4j.CompletionItem;
@@ -24,6 +25,7 @@ import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4mp.commons.JavaCursorContextKind;
 import org.eclipse.lsp4mp.commons.JavaCursorContextResult;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaCompletionParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaCompletionResult;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -32,12 +34,14 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public final class CompletionHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CompletionHandler.class);
 
+    private static final GroupedExtensions<String, JavaCompletionDefinition> DEFINITIONS =
+            new GroupedExtensions<>(JavaCompletionDefinition.EP_NAME, JavaCompletionDefinition::getGroup);
+
     private final String group;
 
     public CompletionHandler(String group) {
@@ -53,50 +57,78 @@ public final class CompletionHandler {
      */
     public CompletionList completion(MicroProfileJavaCompletionParams params, IPsiUtils utils) {
         return ApplicationManager.getApplication().runReadAction((Computable<CompletionList>) () -> {
-            try {
-                String uri = params.getUri();
-                PsiFile typeRoot = resolveTypeRoot(uri, utils);
-                if (typeRoot == null) {
-                    return null;
-                }
-
-                Module module = utils.getModule(uri);
-                if (module == null) {
-                    return null;
-                }
+            String uri = params.getUri();
+            PsiFile typeRoot = resolveTypeRoot(uri, utils);
+            if (typeRoot == null) {
+                return null;
+            }
+            Position completionPosition = params.getPosition();
+            int completionOffset = utils.toOffset(typeRoot, completionPosition.getLine(),
+                    completionPosition.getCharacter());
+            return completion(uri, typeRoot, completionOffset, utils);
+        });
+    }
 
-                Position completionPosition = params.getPosition();
-                int completionOffset = utils.toOffset(typeRoot, completionPosition.getLine(),
-                        completionPosition.getCharacter());
+    /**
+     * Returns the CompletionItems and the cursor context given the completion item params.
+     *
+     * <p>
+     * The language clients ask for both for each completion: the file, its document and the completion offset are
+     * resolved once for both.
+     * </p>
+     *
+     * @param params  the completion item params
+     * @param utils   the IJDTUtils
+     * @return the CompletionItems and the cursor context for the given the completion item params
+     */
+    public MicroProfileJavaCompletionResult completionWithCursorContext(MicroProfileJavaCompletionParams params, IPsiUtils utils) {
+        return ApplicationManager.getApplication().runReadAction((Computable<MicroProfileJavaCompletionResult>) () -> {
+            String uri = params.getUri();
+            PsiFile typeRoot = resolveTypeRoot(uri, utils);
+            Document document = typeRoot != null ? PsiDocumentManager.getInstance(typeRoot.getProject()).getDocument(typeRoot) : null;
+            Position completionPosition = params.getPosition();
+            int completionOffset = document != null ? utils.toOffset(document, completionPosition.getLine(),
+                    completionPosition.getCharacter()) : 0;
+            CompletionList completionList = typeRoot != null ? completion(uri, typeRoot, completionOffset, utils) : null;
+            return new MicroProfileJavaCompletionResult(completionList, javaCursorContext(typeRoot, document, completionOffset));
+        });
+    }
 
-                List<CompletionItem> completionItems = new ArrayList<>();
-                JavaCompletionContext completionContext = new JavaCompletionContext(uri, typeRoot, utils, module, completionOffset);
+    private CompletionList completion(String uri, PsiFile typeRoot, int completionOffset, IPsiUtils utils) {
+        try {
+            Module module = utils.getModule(uri);
+            if (module == null) {
+                return null;
+            }
 
-                List<JavaCompletionDefinition> completions = JavaCompletionDefinition.EP_NAME.getExtensionList()
-                        .stream()
-                        .filter(definition -> group.equals(definition.getGroup()))
-                        .filter(completion -> completion.isAdaptedForCompletion(completionContext))
-                        .collect(Collectors.toList());
+            List<CompletionItem> completionItems = new ArrayList<>();
+            JavaCompletionContext completionContext = new JavaCompletionContext(uri, typeRoot, utils, module, completionOffset);
 
-                if (completions.isEmpty()) {
-                    return null;
+            List<JavaCompletionDefinition> completions = new ArrayList<>();
+            for (JavaCompletionDefinition completion : DEFINITIONS.get(group)) {
+                if (completion.isAdaptedForCompletion(completionContext)) {
+                    completions.add(completion);
                 }
+            }
 
-                completions.forEach(completion -> {
-                    List<? extends CompletionItem> collectedCompletionItems = completion.collectCompletionItems(completionContext);
-                    if (collectedCompletionItems != null) {
-                        completionItems.addAll(collectedCompletionItems);
-                    }
-                });
-
-                CompletionList completionList = new CompletionList();
-                completionList.setItems(completionItems);
-                return completionList;
-            } catch (IOException e) {
-                LOGGER.warn(e.getLocalizedMessage(), e);
+            if (completions.isEmpty()) {
                 return null;
             }
-        });
+
+            completions.forEach(completion -> {
+                List<? extends CompletionItem> collectedCompletionItems = completion.collectCompletionItems(completionContext);
+                if (collectedCompletionItems != null) {
+                    completionItems.addAll(collectedCompletionItems);
+                }
+            });
+
+            CompletionList completionList = new CompletionList();
+            completionList.setItems(completionItems);
+            return completionList;
+        } catch (IOException e) {
+            LOGGER.warn(e.getLocalizedMessage(), e);
+            return null;
+        }
     }
 
     /**
@@ -110,16 +142,19 @@ public final class CompletionHandler {
     public JavaCursorContextResult javaCursorContext(MicroProfileJavaCompletionParams params, IPsiUtils utils) {
         String uri = params.getUri();
         PsiFile typeRoot = resolveTypeRoot(uri, utils);
-        if (!(typeRoot instanceof PsiJavaFile)) {
-            return new JavaCursorContextResult(JavaCursorContextKind.IN_EMPTY_FILE, "");
-        }
-        Document document = PsiDocumentManager.getInstance(typeRoot.getProject()).getDocument(typeRoot);
+        Document document = typeRoot != null ? PsiDocumentManager.getInstance(typeRoot.getProject()).getDocument(typeRoot) : null;
         if (document == null) {
             return new JavaCursorContextResult(JavaCursorContextKind.IN_EMPTY_FILE, "");
         }
         Position completionPosition = params.getPosition();
         int completionOffset = utils.toOffset(document, completionPosition.getLine(), completionPosition.getCharacter());
+        return javaCursorContext(typeRoot, document, completionOffset);
+    }
 
+    private static JavaCursorContextResult javaCursorContext(@Nullable PsiFile typeRoot, @Nullable Document document, int completionOffset) {
+        if (!(typeRoot instanceof PsiJavaFile) || document == null) {
+            return new JavaCursorContextResult(JavaCursorContextKind.IN_EMPTY_FILE, "");
+        }
         JavaCursorContextKind kind = getJavaCursorContextKind((PsiJavaFile) typeRoot, completionOffset);
         String prefix = getJavaCursorPrefix(document, completionOffset);
 
@@ -13,17 +13,26 @@
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics;
 
 import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Computable;
 import com.intellij.openapi.util.ThrowableComputable;
 import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import io.openliberty.tools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.GroupedExtensions;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.corrections.JavaDiagnosticsDefinition;
+import io.openliberty.tools.intellij.util.LibertyToolPluginDisposable;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsSettings;
+import org.jetbrains.concurrency.CancellablePromise;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,11 +40,20 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 
 public final class DiagnosticsHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DiagnosticsHandler.class);
 
+    // Bounded pool used to collect the diagnostics of several files at the same time.
+    private static final ExecutorService DIAGNOSTICS_EXECUTOR = AppExecutorUtil.createBoundedApplicationPoolExecutor(
+            "Liberty Tools Java Diagnostics", Runtime.getRuntime().availableProcessors());
+
+    private static final GroupedExtensions<String, JavaDiagnosticsDefinition> DEFINITIONS =
+            new GroupedExtensions<>(JavaDiagnosticsDefinition.EP_NAME, JavaDiagnosticsDefinition::getGroup);
+
     private final String group;
 
     public DiagnosticsHandler(String group) {
@@ -50,14 +68,69 @@ public final class DiagnosticsHandler {
         DocumentFormat documentFormat = params.getDocumentFormat();
         List<PublishDiagnosticsParams> publishDiagnostics = new ArrayList<>();
         for (String uri : uris) {
-            List<Diagnostic> diagnostics = new ArrayList<>();
-            PublishDiagnosticsParams publishDiagnostic = new PublishDiagnosticsParams(uri, diagnostics);
-            publishDiagnostics.add(publishDiagnostic);
-            collectDiagnostics(uri, utils, documentFormat, params.getSettings(), diagnostics);
+            publishDiagnostics.add(collectPublishDiagnostics(uri, utils, documentFormat, params.getSettings()));
         }
         return publishDiagnostics;
     }
 
+    /**
+     * Collects the diagnostics of the given files in parallel, each file in its own non-blocking read action, and
+     * returns them in the order of the requested uris.
+     *
+     * <p>
+     * This method must be called outside of a read action: it only submits the read actions of the files. Cancelling
+     * the returned future (ex : when the request is superseded by a new request with the same coalesce key) cancels
+     * the files still in progress.
+     * </p>
+     *
+     * @param params the diagnostics parameters.
+     * @param utils  the utilities class.
+     * @return the future of the diagnostics of the given files.
+     */
+    public CompletableFuture<List<PublishDiagnosticsParams>> collectDiagnosticsInParallel(MicroProfileJavaDiagnosticsParams params, IPsiUtils utils) {
+        List<String> uris = params.getUris();
+        if (uris == null || uris.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        Project project = utils.getProject();
+        DocumentFormat documentFormat = params.getDocumentFormat();
+        MicroProfileJavaDiagnosticsSettings settings = params.getSettings();
+        CompletableFuture<List<PublishDiagnosticsParams>> result = new CompletableFuture<>();
+        List<CancellablePromise<PublishDiagnosticsParams>> promises = new ArrayList<>(uris.size());
+        List<CompletableFuture<PublishDiagnosticsParams>> files = new ArrayList<>(uris.size());
+        for (String uri : uris) {
+            CompletableFuture<PublishDiagnosticsParams> file = new CompletableFuture<>();
+            CancellablePromise<PublishDiagnosticsParams> promise = ReadAction.nonBlocking(() -> collectPublishDiagnostics(uri, utils, documentFormat, settings))
+                    .inSmartMode(project)
+                    .expireWith(LibertyToolPluginDisposable.getInstance(project))
+                    .submit(DIAGNOSTICS_EXECUTOR);
+            promise.onSuccess(file::complete).onError(file::completeExceptionally);
+            // The request fails as soon as a file fails or is cancelled
+            file.whenComplete((publishDiagnostics, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(error);
+                }
+            });
+            promises.add(promise);
+            files.add(file);
+        }
+        CompletableFuture.allOf(files.toArray(new CompletableFuture[0]))
+                .thenRun(() -> result.complete(files.stream().map(CompletableFuture::join).toList()));
+        result.whenComplete((publishDiagnostics, error) -> {
+            if (error != null) {
+                promises.forEach(CancellablePromise::cancel);
+            }
+        });
+        return result;
+    }
+
+    private PublishDiagnosticsParams collectPublishDiagnostics(String uri, IPsiUtils utils, DocumentFormat documentFormat,
+                                                               MicroProfileJavaDiagnosticsSettings settings) {
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        collectDiagnostics(uri, utils, documentFormat, settings, diagnostics);
+        return new PublishDiagnosticsParams(uri, diagnostics);
+    }
+
     private void collectDiagnostics(String uri, IPsiUtils utils, DocumentFormat documentFormat,
                                     MicroProfileJavaDiagnosticsSettings settings, List<Diagnostic> diagnostics) {
         PsiFile typeRoot = ApplicationManager.getApplication().runReadAction((Computable<PsiFile>) () -> resolveTypeRoot(uri, utils));
@@ -65,15 +138,33 @@ public final class DiagnosticsHandler {
             return;
         }
 
+        Project project = utils.getProject();
+        JavaDiagnosticsCache cache = JavaDiagnosticsCache.getInstance(project);
+        // Diagnostics of an unchanged file are reused until the Java structure of the project or a classpath resource changes.
+        // The modification counts are read before collecting the diagnostics, so a change made meanwhile only causes a cache miss.
+        long modificationStamp = ApplicationManager.getApplication().runReadAction((Computable<Long>) typeRoot::getModificationStamp);
+        long javaStructureModificationCount = PsiModificationTracker.getInstance(project).getJavaStructureModificationCount();
+        long configSourcesModificationCount = ClasspathResourceChangedManager.getInstance(project).getConfigSourcesModificationCount();
+        int settingsHash = JavaDiagnosticsCache.settingsHash(documentFormat, settings);
+        List<Diagnostic> cachedDiagnostics = cache.get(group, uri, modificationStamp, javaStructureModificationCount,
+                configSourcesModificationCount, settingsHash);
+        if (cachedDiagnostics != null) {
+            diagnostics.addAll(cachedDiagnostics);
+            return;
+        }
+        // Results collected while indexing may be incomplete, don't cache them.
+        boolean cacheable = !DumbService.isDumb(project);
+
         try {
             Module module = ApplicationManager.getApplication().runReadAction((ThrowableComputable<Module, IOException>) () -> utils.getModule(uri));
             // Collect all adapted diagnostic definitions
             JavaDiagnosticsContext context = new JavaDiagnosticsContext(uri, typeRoot, utils, module, documentFormat, settings);
-            List<JavaDiagnosticsDefinition> definitions = JavaDiagnosticsDefinition.EP_NAME.getExtensionList()
-                    .stream()
-                    .filter(definition -> group.equals(definition.getGroup()))
-                    .filter(definition -> definition.isAdaptedForDiagnostics(context))
-                    .toList();
+            List<JavaDiagnosticsDefinition> definitions = new ArrayList<>();
+            for (JavaDiagnosticsDefinition definition : DEFINITIONS.get(group)) {
+                if (definition.isAdaptedForDiagnostics(context)) {
+                    definitions.add(definition);
+                }
+            }
 
             // Begin, collect, end participants
             definitions.forEach(definition -> definition.beginDiagnostics(context));
@@ -84,6 +175,11 @@ public final class DiagnosticsHandler {
                 }
             });
             definitions.forEach(definition -> definition.endDiagnostics(context));
+
+            if (cacheable && module != null && !DumbService.isDumb(project)) {
+                cache.put(group, uri, modificationStamp, javaStructureModificationCount, configSourcesModificationCount,
+                        settingsHash, diagnostics);
+            }
         } catch (IOException e) {
             LOGGER.warn(e.getLocalizedMessage(), e);
         }
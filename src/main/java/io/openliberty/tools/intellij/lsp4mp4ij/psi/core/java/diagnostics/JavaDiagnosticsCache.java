@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.messages.MessageBusConnection;
+import io.openliberty.tools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import io.openliberty.tools.intellij.util.LibertyToolPluginDisposable;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsSettings;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Project-level cache of the diagnostics collected by {@link DiagnosticsHandler}.
+ *
+ * <p>
+ * An entry is keyed by the participant group and the file URI, and is only reused when the
+ * {@link com.intellij.psi.PsiFile#getModificationStamp() modification stamp} of the file, the
+ * {@link com.intellij.psi.util.PsiModificationTracker#getJavaStructureModificationCount() Java structure modification count}
+ * of the project, the {@link ClasspathResourceChangedManager#getConfigSourcesModificationCount() config sources modification count}
+ * and the hash of the diagnostics settings are the same as when the diagnostics were collected.
+ * </p>
+ *
+ * <p>
+ * Diagnostics of a file may depend on other Java types of its module and of the modules it depends on, so any change
+ * of the Java structure of the project (a type, a field, a method signature or an annotation) invalidates every
+ * entry, while editing a method body only invalidates the entries of the edited file. Diagnostics may also depend on
+ * microprofile-config.properties values, so every entry is invalidated by a change of a config source, before the
+ * language clients are notified of it. The whole cache is cleared with the
+ * {@link ClasspathResourceChangedManager.Listener} events when a library changes.
+ * </p>
+ *
+ * <p>
+ * Entries only hold the URI of the file, and the least recently used entries are evicted once the cache holds
+ * {@value #MAX_ENTRIES} entries, so that the diagnostics of closed files don't stay in memory.
+ * </p>
+ */
+public final class JavaDiagnosticsCache implements Disposable {
+
+    private static final int MAX_ENTRIES = 500;
+
+    public static JavaDiagnosticsCache getInstance(@NotNull Project project) {
+        return project.getService(JavaDiagnosticsCache.class);
+    }
+
+    private record CacheKey(String group, String uri) {
+    }
+
+    private record CacheEntry(long modificationStamp, long javaStructureModificationCount, long configSourcesModificationCount,
+                              int settingsHash, List<Diagnostic> diagnostics) {
+    }
+
+    // Guarded by this, in access order to evict the least recently used entries
+    private final Map<CacheKey, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private final MessageBusConnection connection;
+
+    private class DiagnosticsCacheListener implements ClasspathResourceChangedManager.Listener {
+
+        @Override
+        public void librariesChanged() {
+            clear();
+        }
+
+        @Override
+        public void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources) {
+            // Changes of Java files and config sources are covered by the modification counts of the entries
+        }
+    }
+
+    private JavaDiagnosticsCache(Project project) {
+        connection = project.getMessageBus().connect(LibertyToolPluginDisposable.getInstance(project));
+        connection.subscribe(ClasspathResourceChangedManager.TOPIC, new DiagnosticsCacheListener());
+    }
+
+    /**
+     * Returns the cached diagnostics for the given group and uri if the file, the Java structure of the project,
+     * the config sources and the settings have not changed since they were collected and null otherwise.
+     *
+     * @param group                          the diagnostics participant group.
+     * @param uri                            the file URI.
+     * @param modificationStamp              the current modification stamp of the Psi file.
+     * @param javaStructureModificationCount the current Java structure modification count of the project.
+     * @param configSourcesModificationCount the current modification count of the config sources.
+     * @param settingsHash                   the hash of the diagnostics settings.
+     * @return the cached diagnostics and null otherwise.
+     */
+    @Nullable
+    public synchronized List<Diagnostic> get(String group, String uri, long modificationStamp, long javaStructureModificationCount,
+                                             long configSourcesModificationCount, int settingsHash) {
+        CacheKey key = new CacheKey(group, uri);
+        CacheEntry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.modificationStamp() != modificationStamp
+                || entry.javaStructureModificationCount() != javaStructureModificationCount
+                || entry.configSourcesModificationCount() != configSourcesModificationCount
+                || entry.settingsHash() != settingsHash) {
+            entries.remove(key);
+            return null;
+        }
+        return new ArrayList<>(entry.diagnostics());
+    }
+
+    /**
+     * Stores the diagnostics collected for the given group and uri.
+     *
+     * @param group                          the diagnostics participant group.
+     * @param uri                            the file URI.
+     * @param modificationStamp              the modification stamp of the Psi file used to collect the diagnostics.
+     * @param javaStructureModificationCount the Java structure modification count of the project read before collecting the diagnostics.
+     * @param configSourcesModificationCount the modification count of the config sources read before collecting the diagnostics.
+     * @param settingsHash                   the hash of the diagnostics settings used to collect the diagnostics.
+     * @param diagnostics                    the collected diagnostics.
+     */
+    public synchronized void put(String group, String uri, long modificationStamp, long javaStructureModificationCount,
+                                 long configSourcesModificationCount, int settingsHash, List<Diagnostic> diagnostics) {
+        entries.put(new CacheKey(group, uri), new CacheEntry(modificationStamp, javaStructureModificationCount,
+                configSourcesModificationCount, settingsHash, List.copyOf(diagnostics)));
+    }
+
+    /**
+     * Returns the hash of the given diagnostics settings used as part of the cache key.
+     *
+     * @param documentFormat the document format.
+     * @param settings       the diagnostics settings.
+     * @return the hash of the given diagnostics settings.
+     */
+    public static int settingsHash(DocumentFormat documentFormat, MicroProfileJavaDiagnosticsSettings settings) {
+        return Objects.hash(documentFormat, settings != null ? settings.getPatterns() : null);
+    }
+
+    /**
+     * Clears the whole cache.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    @Override
+    public void dispose() {
+        clear();
+        connection.disconnect();
+    }
+}
@@ -24,6 +24,7 @@ import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.logging.Logger;
 
@@ -98,6 +99,27 @@ public class JavaASTValidator extends JavaRecursiveElementVisitor implements Clo
 		return true;
 	}
 
+	/**
+	 * Returns the qualified names of the annotations validated by this validator
+	 * and null if the validator must visit all the AST.
+	 *
+	 * <p>
+	 * When the annotation names are declared, the validator is only called with
+	 * {@link #visitAnnotation(com.intellij.psi.PsiAnnotation)} for the annotations
+	 * whose simple name is the simple name of one of those annotations, and is
+	 * not called for a Java file which doesn't reference any of them. As the
+	 * annotations are matched by simple name, an annotation with the same simple
+	 * name from another package can be visited: the validator must check the
+	 * annotation with {@link io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils#isMatchAnnotation}.
+	 * </p>
+	 *
+	 * @return the qualified names of the annotations validated by this validator
+	 *         and null if the validator must visit all the AST.
+	 */
+	public Collection<String> getAnnotationNames() {
+		return null;
+	}
+
 	public Diagnostic addDiagnostic(String message, String source, PsiElement node, IJavaErrorCode code,
 									DiagnosticSeverity severity) {
 		return addDiagnostic(message, source, node.getTextOffset(), node.getTextLength(), code, severity);
@@ -16,6 +16,9 @@ import com.intellij.openapi.extensions.PluginDescriptor;
 import com.intellij.util.xmlb.annotations.Attribute;
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 
 public class JavaASTValidatorExtensionPointBean implements PluginAware {
@@ -24,12 +27,29 @@ public class JavaASTValidatorExtensionPointBean implements PluginAware {
     @Attribute
     public String implementation;
 
+    // Constructor of the validator class resolved once. A validator is a visitor with the state of its walk, so a new
+    // validator is created for each diagnostics request
+    private volatile MethodHandle constructor;
+
     @Override
     public void setPluginDescriptor(@NotNull PluginDescriptor pluginDescriptor) {
         this.pluginDescriptor = pluginDescriptor;
     }
 
     public JavaASTValidator createValidator() throws ClassNotFoundException, NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
-        return (JavaASTValidator) pluginDescriptor.getPluginClassLoader().loadClass(implementation).getConstructor(new Class[0]).newInstance(new Object[0]);
+        MethodHandle handle = constructor;
+        if (handle == null) {
+            Class<?> validatorClass = pluginDescriptor.getPluginClassLoader().loadClass(implementation);
+            handle = MethodHandles.publicLookup().unreflectConstructor(validatorClass.getConstructor(new Class[0]))
+                    .asType(MethodType.methodType(JavaASTValidator.class));
+            constructor = handle;
+        }
+        try {
+            return (JavaASTValidator) handle.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
     }
 }
@@ -47,6 +47,11 @@ public class AnnotationRulesJavaASTValidator extends JavaASTValidator {
 		this.rules = rules;
 	}
 
+	@Override
+	public Collection<String> getAnnotationNames() {
+		return rules.stream().map(AnnotationRule::getAnnotation).toList();
+	}
+
 	@Override
 	public void visitAnnotation(PsiAnnotation annotation) {
 		// Loop for rules
@@ -87,12 +92,18 @@ public class AnnotationRulesJavaASTValidator extends JavaASTValidator {
 
 		// Get the value of the AST attribute
 		Object valueAsObject = JavaPsiFacade.getInstance(getContext().getJavaProject().getProject()).getConstantEvaluationHelper().computeConstantExpression(attributeValueExpr);
-		String valueAsString = valueAsObject != null ? valueAsObject.toString() : null;
-		if (StringUtils.isEmpty(valueAsString)) {
-			return;
+		String validationResult;
+		if (valueAsObject instanceof Number) {
+			// Validate the numeric value with the rule without parsing it
+			validationResult = attributeRule.validate(((Number) valueAsObject).doubleValue());
+		} else {
+			String valueAsString = valueAsObject != null ? valueAsObject.toString() : null;
+			if (StringUtils.isEmpty(valueAsString)) {
+				return;
+			}
+			// Validate the value with the rule
+			validationResult = JavaASTValidatorRegistry.getInstance().validate(valueAsString, attributeRule);
 		}
-		// Validate the value with the rule
-		String validationResult = JavaASTValidatorRegistry.getInstance().validate(valueAsString, attributeRule);
 		if (validationResult != null) {
 			// There is an error, report a diagnostic
 			super.addDiagnostic(validationResult, attributeRule.getSource(), attributeValueExpr, null,
@@ -14,14 +14,10 @@
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations;
 
 import com.intellij.openapi.extensions.ExtensionPointName;
-import com.intellij.openapi.progress.ProcessCanceledException;
-import com.intellij.openapi.project.IndexNotReadyException;
-import io.openliberty.tools.intellij.util.ExceptionUtil;
 
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.CancellationException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -89,18 +85,15 @@ public class AnnotationValidator {
 	 * @return the error message of the validation result of the attribute value and null otherwise.
 	 */
 	public String validate(String value, AnnotationAttributeRule rule) {
-		return ExceptionUtil.executeWithExceptionHandling(
-			() -> {
-				if (rule == null) {
-					return null;
-				}
-				return rule.validate(value);
-			},
-			e -> {
-				LOGGER.log(Level.WARNING, e.getLocalizedMessage(), e);
-				return null;
-			}
-		);
+		if (rule == null) {
+			return null;
+		}
+		try {
+			return rule.validate(value);
+		} catch (NumberFormatException e) {
+			LOGGER.log(Level.WARNING, e.getLocalizedMessage(), e);
+			return null;
+		}
 	}
 
 	/**
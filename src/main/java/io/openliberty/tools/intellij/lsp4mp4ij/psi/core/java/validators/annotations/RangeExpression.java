@@ -41,10 +41,20 @@ public class RangeExpression {
 	private final Edge to;
 	private final String errorMessage;
 
+	// Bounds of the range compiled from the edges to check a value without allocation
+	private final double min;
+	private final boolean minInclusive;
+	private final double max;
+	private final boolean maxInclusive;
+
 	public RangeExpression(Edge from, Edge to) {
 		this.from = from;
 		this.to = to;
 		this.errorMessage = createErrorMessage(from, to);
+		this.min = from.value;
+		this.minInclusive = from.inclusive;
+		this.max = to != null ? to.value : Double.POSITIVE_INFINITY;
+		this.maxInclusive = to == null || to.inclusive;
 	}
 
 	private static String createErrorMessage(Edge from, Edge to) {
@@ -83,12 +93,22 @@ public class RangeExpression {
 	}
 
 	public String validate(double value) {
-		if (!from.validate(value) || (to != null && !to.validate(value))) {
+		if (!isValid(value)) {
 			return MessageFormat.format(errorMessage, value);
 		}
 		return null;
 	}
 
+	/**
+	 * Returns true if the given value is in the range and false otherwise.
+	 * 
+	 * @param value the value to check.
+	 * @return true if the given value is in the range and false otherwise.
+	 */
+	public boolean isValid(double value) {
+		return (minInclusive ? value >= min : value > min) && (maxInclusive ? value <= max : value < max);
+	}
+
 	/**
 	 * Parse the given range <code>expression</code>.
 	 * 
@@ -206,22 +226,6 @@ public class RangeExpression {
 			this.superior = superior;
 			this.inclusive = inclusive;
 		}
-
-		public boolean validate(double value) {
-			if (inclusive) {
-				if (value == this.value) {
-					return true;
-				}
-			}
-			if (superior) {
-				if (value > this.value) {
-					return true;
-				}
-			} else if (value < this.value) {
-				return true;
-			}
-			return false;
-		}
 	}
 
 }
@@ -16,6 +16,7 @@ import com.intellij.openapi.vfs.VfsUtil;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
 import org.apache.commons.io.IOUtils;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,12 +46,18 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
     private final int ordinal;
 
     private final Module javaProject;
-    private VirtualFile outputConfigFile;
-    private VirtualFile sourceConfigFile;
-    private long lastModified = -1L;
-    private T config;
+    private volatile VirtualFile outputConfigFile;
+    private volatile VirtualFile sourceConfigFile;
 
-    private Map<String, List<MicroProfileConfigPropertyInformation>> propertyInformations;
+    /**
+     * Loaded config with its property informations, replaced as a whole so that concurrent readers never see a config
+     * with the property informations of another config.
+     */
+    private record ConfigState<T>(T config, long lastModified,
+                                  Map<String, List<MicroProfileConfigPropertyInformation>> propertyInformations) {
+    }
+
+    private volatile ConfigState<T> state = new ConfigState<>(null, -1L, null);
 
     public AbstractConfigSource(String configFileName, int ordinal, Module javaProject) {
         this(configFileName, null, ordinal, javaProject);
@@ -79,10 +86,7 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
     }
 
     private void init() {
-        T config = getConfig();
-        if (config != null && propertyInformations == null) {
-            propertyInformations = loadPropertyInformations();
-        }
+        getConfig();
     }
 
     /**
@@ -164,18 +168,20 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
      * @return the loaded config and null otherwise
      */
     protected final T getConfig() {
+        return getState().config();
+    }
+
+    private ConfigState<T> getState() {
         VirtualFile configFile = getOutputConfigFile();
         if (configFile == null) {
             reset();
-            return null;
+            return state;
         }
         try {
             long currentLastModified = configFile.getModificationStamp();
-            if (currentLastModified > lastModified) {
-                reset();
+            if (currentLastModified > state.lastModified()) {
                 try (InputStream input = configFile.getInputStream()) {
-                    config = loadConfig(input);
-                    lastModified = configFile.getModificationStamp();
+                    state = createState(loadConfig(input), configFile.getModificationStamp());
                 } catch (Exception e) {
                     reset();
                     LOGGER.warn("Error while loading properties from '" + configFile + "'.", e);
@@ -184,16 +190,30 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
         } catch (RuntimeException e1) {
             LOGGER.warn("Error while getting last modified time for '" + configFile + "'.", e1);
         }
-        return config;
+        return state;
+    }
+
+    private ConfigState<T> createState(T config, long lastModified) {
+        return new ConfigState<>(config, lastModified, config != null ? loadPropertyInformations(config) : null);
     }
 
     @Override
     public void reload(PsiFile file) {
-        reset();
+        ConfigState<T> current = state;
+        if (current.config() != null && current.propertyInformations() != null) {
+            try {
+                LoadedConfig<T> updated = updateConfig(file, current.config(), current.propertyInformations());
+                if (updated != null) {
+                    state = new ConfigState<>(updated.config(), System.currentTimeMillis(), updated.propertyInformations());
+                    return;
+                }
+            } catch (RuntimeException e) {
+                LOGGER.warn("Error while updating properties from '" + sourceConfigFile + "'.", e);
+            }
+        }
         String content = file.getText();
         try (InputStream input = IOUtils.toInputStream(content, Charset.defaultCharset())) {
-            config = loadConfig(input);
-            lastModified = System.currentTimeMillis();
+            state = createState(loadConfig(input), System.currentTimeMillis());
         } catch (Exception e) {
             reset();
             LOGGER.warn("Error while loading properties from '" + sourceConfigFile + "'.", e);
@@ -215,16 +235,45 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
     }
 
     private void reset() {
-        config = null;
-        propertyInformations = null;
+        state = new ConfigState<>(null, state.lastModified(), null);
     }
 
     @Override
     public List<MicroProfileConfigPropertyInformation> getPropertyInformations(String propertyKey) {
-        init();
+        Map<String, List<MicroProfileConfigPropertyInformation>> propertyInformations = getState().propertyInformations();
         return propertyInformations != null ? propertyInformations.get(propertyKey) : null;
     }
 
+    /**
+     * Config model with its property informations.
+     *
+     * @param config               the config model.
+     * @param propertyInformations the property informations of the config model.
+     * @param <T>                  the config model type.
+     */
+    protected record LoadedConfig<T>(T config,
+                                     Map<String /* property key without profile */, List<MicroProfileConfigPropertyInformation>> propertyInformations) {
+    }
+
+    /**
+     * Returns the config model updated from the already parsed PSI of the given file, where only the property
+     * informations of the changed entries are loaded again, and null if the config model cannot be updated and must
+     * be loaded from the content of the file.
+     *
+     * <p>
+     * The given config model and property informations must not be modified since they can be read concurrently.
+     * </p>
+     *
+     * @param file                 the config file.
+     * @param config               the current config model.
+     * @param propertyInformations the current property informations.
+     * @return the updated config model and null if it must be loaded from the content of the file.
+     */
+    protected @Nullable LoadedConfig<T> updateConfig(PsiFile file, T config,
+                                                     Map<String, List<MicroProfileConfigPropertyInformation>> propertyInformations) {
+        return null;
+    }
+
     /**
      * Load the config model from the given input stream <code>input</code>.
      *
@@ -237,7 +286,8 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
     /**
      * Load the property informations.
      *
+     * @param config the loaded config model.
      * @return the property information.
      */
-    protected abstract Map<String /* property key without profile */, List<MicroProfileConfigPropertyInformation>> loadPropertyInformations();
+    protected abstract Map<String /* property key without profile */, List<MicroProfileConfigPropertyInformation>> loadPropertyInformations(T config);
 }
@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project;
+
+import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
+import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable index of the properties declared by the config sources of a {@link PsiMicroProfileProject}.
+ *
+ * <p>
+ * The index is built once from the config sources sorted by ordinal and gives:
+ * </p>
+ * <ul>
+ *     <li>the resolved value (property expressions expanded) of each property key with profile.</li>
+ *     <li>the information of each profile of a property key without profile, where the config source with the bigger
+ *     ordinal wins, sorted by property name with profile.</li>
+ * </ul>
+ *
+ * <p>
+ * The expanded values of the property expressions are memoized across the indexes: when an index is built from the
+ * previous one, only the properties whose raw value has changed and the properties which reference them (directly or
+ * through other properties, tracked with a reverse-dependency graph) are expanded again.
+ * </p>
+ */
+final class ConfigPropertiesIndex {
+
+    static final ConfigPropertiesIndex EMPTY = new ConfigPropertiesIndex(Map.of(), Map.of(), Map.of(), Map.of());
+
+    private static final String EXPRESSION_START = "${";
+
+    private final Map<String /* property key with profile */, String> rawValues;
+
+    private final Map<String /* property key with profile */, String> values;
+
+    private final Map<String /* referenced property key */, Set<String /* property key with profile */>> dependents;
+
+    private final Map<String /* property key without profile */, List<MicroProfileConfigPropertyInformation>> informations;
+
+    private ConfigPropertiesIndex(Map<String, String> rawValues, Map<String, String> values,
+                                  Map<String, Set<String>> dependents,
+                                  Map<String, List<MicroProfileConfigPropertyInformation>> informations) {
+        this.rawValues = rawValues;
+        this.values = values;
+        this.dependents = dependents;
+        this.informations = informations;
+    }
+
+    /**
+     * Builds the index of the given config sources.
+     *
+     * @param configSources the config sources sorted by descending ordinal.
+     * @param provider      the properties provider which aggregates the given config sources.
+     * @param previous      the previous index of the project whose expanded values are reused, or null.
+     * @return the index of the given config sources.
+     */
+    static ConfigPropertiesIndex build(List<IConfigSource> configSources, IConfigSourcePropertiesProvider provider,
+                                       @Nullable ConfigPropertiesIndex previous) {
+        if (configSources.isEmpty()) {
+            return EMPTY;
+        }
+        Map<String, String> rawValues = new HashMap<>();
+        Set<String> propertyKeys = new HashSet<>();
+        for (IConfigSource configSource : configSources) {
+            for (String key : configSource.getAllKeys()) {
+                propertyKeys.add(MicroProfileConfigPropertyInformation.getPropertyNameWithoutProfile(key));
+                if (!rawValues.containsKey(key)) {
+                    String value = provider.getValue(key);
+                    if (value != null) {
+                        rawValues.put(key, value);
+                    }
+                }
+            }
+        }
+
+        // Properties whose expanded value may have changed since the previous index
+        Set<String> invalidated = previous != null ? previous.getInvalidatedKeys(rawValues) : null;
+        PropertyValueExpander propertyValueExpander = null;
+        Map<String, String> values = new HashMap<>();
+        Map<String, Set<String>> dependents = new HashMap<>();
+        for (Map.Entry<String, String> entry : rawValues.entrySet()) {
+            String key = entry.getKey();
+            String value = entry.getValue();
+            if (value.contains(EXPRESSION_START)) {
+                for (String reference : getReferences(value)) {
+                    dependents.computeIfAbsent(reference, k -> new HashSet<>()).add(key);
+                }
+                if (invalidated != null && !invalidated.contains(key)) {
+                    value = previous.values.get(key);
+                } else {
+                    if (propertyValueExpander == null) {
+                        propertyValueExpander = new PropertyValueExpander(provider);
+                    }
+                    value = propertyValueExpander.getValue(key);
+                }
+            }
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+
+        Map<String, List<MicroProfileConfigPropertyInformation>> informations = new HashMap<>();
+        for (String propertyKey : propertyKeys) {
+            // Go backwards so that application.properties replaces
+            // microprofile-config.properties, etc.
+            Map<String, MicroProfileConfigPropertyInformation> propertyToInfoMap = new HashMap<>();
+            for (int i = configSources.size() - 1; i >= 0; i--) {
+                List<MicroProfileConfigPropertyInformation> propertyInformations = configSources.get(i)
+                        .getPropertyInformations(propertyKey);
+                if (propertyInformations != null) {
+                    for (MicroProfileConfigPropertyInformation propertyInformation : propertyInformations) {
+                        propertyToInfoMap.put(propertyInformation.getPropertyNameWithProfile(), propertyInformation);
+                    }
+                }
+            }
+            if (!propertyToInfoMap.isEmpty()) {
+                informations.put(propertyKey, propertyToInfoMap.values().stream()
+                        .sorted(Comparator.comparing(MicroProfileConfigPropertyInformation::getPropertyNameWithProfile))
+                        .map(info -> new MicroProfileConfigPropertyInformation(info.getPropertyNameWithProfile(),
+                                values.get(info.getPropertyNameWithProfile()), info.getSourceConfigFileURI(),
+                                info.getConfigFileName()))
+                        .toList());
+            }
+        }
+        dependents.replaceAll((reference, keys) -> Set.copyOf(keys));
+        return new ConfigPropertiesIndex(Map.copyOf(rawValues), Map.copyOf(values), Map.copyOf(dependents),
+                Map.copyOf(informations));
+    }
+
+    /**
+     * Returns the property keys whose raw value differs between this index and the given raw values, with the property
+     * keys which reference them transitively.
+     */
+    private Set<String> getInvalidatedKeys(Map<String, String> newRawValues) {
+        Deque<String> changed = new ArrayDeque<>();
+        newRawValues.forEach((key, value) -> {
+            if (!value.equals(rawValues.get(key))) {
+                changed.add(key);
+            }
+        });
+        rawValues.keySet().forEach(key -> {
+            if (!newRawValues.containsKey(key)) {
+                changed.add(key);
+            }
+        });
+        Set<String> invalidated = new HashSet<>();
+        while (!changed.isEmpty()) {
+            String key = changed.poll();
+            if (invalidated.add(key)) {
+                // An expression can reference the property with or without its profile
+                changed.addAll(dependents.getOrDefault(key, Set.of()));
+                changed.addAll(dependents.getOrDefault(
+                        MicroProfileConfigPropertyInformation.getPropertyNameWithoutProfile(key), Set.of()));
+            }
+        }
+        return invalidated;
+    }
+
+    /**
+     * Returns the property keys referenced by the expressions of the given value (ex : <code>${a}</code>,
+     * <code>${a:${b}}</code>).
+     */
+    private static Set<String> getReferences(String value) {
+        Set<String> references = new HashSet<>();
+        int start = value.indexOf(EXPRESSION_START);
+        while (start != -1) {
+            int nameStart = start + EXPRESSION_START.length();
+            int nameEnd = nameStart;
+            while (nameEnd < value.length() && "}:$".indexOf(value.charAt(nameEnd)) == -1) {
+                nameEnd++;
+            }
+            if (nameEnd > nameStart) {
+                references.add(value.substring(nameStart, nameEnd));
+            }
+            start = value.indexOf(EXPRESSION_START, nameStart);
+        }
+        return references;
+    }
+
+    /**
+     * Returns the resolved value of the given property key with profile and null if it is not defined.
+     *
+     * @param propertyKey the property key with profile.
+     * @return the resolved value of the given property key with profile and null if it is not defined.
+     */
+    String getValue(String propertyKey) {
+        return values.get(propertyKey);
+    }
+
+    /**
+     * Returns true if the given property key without profile has a value declared for any profile and false otherwise.
+     *
+     * @param propertyKey the property key without profile.
+     * @return true if the given property key has a value declared for any profile and false otherwise.
+     */
+    boolean hasProperty(String propertyKey) {
+        return informations.containsKey(propertyKey);
+    }
+
+    /**
+     * Returns a mutable copy of the information of each profile of the given property key without profile.
+     *
+     * @param propertyKey the property key without profile.
+     * @return a mutable copy of the information of each profile of the given property key without profile.
+     */
+    List<MicroProfileConfigPropertyInformation> getPropertyInformations(String propertyKey) {
+        List<MicroProfileConfigPropertyInformation> propertyInformations = informations.get(propertyKey);
+        return propertyInformations != null ? new ArrayList<>(propertyInformations) : new ArrayList<>();
+    }
+}
@@ -9,14 +9,19 @@
 *******************************************************************************/
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project;
 
+import com.intellij.lang.properties.IProperty;
+import com.intellij.lang.properties.psi.PropertiesFile;
 import com.intellij.openapi.module.Module;
+import com.intellij.psi.PsiFile;
 import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -77,8 +82,63 @@ public class PropertiesConfigSource extends AbstractConfigSource<Properties> {
 	}
 
 	@Override
-	protected Map<String, List<MicroProfileConfigPropertyInformation>> loadPropertyInformations() {
-		Properties config = super.getConfig();
+	protected @Nullable LoadedConfig<Properties> updateConfig(PsiFile file, Properties config,
+			Map<String, List<MicroProfileConfigPropertyInformation>> propertyInformations) {
+		if (!(file instanceof PropertiesFile propertiesFile)) {
+			return null;
+		}
+		// Get the entries from the PSI, already parsed by the IDE, instead of parsing the content of the file
+		Properties properties = new Properties();
+		String profile = getProfile();
+		for (IProperty property : propertiesFile.getProperties()) {
+			String key = property.getUnescapedKey();
+			if (key == null) {
+				continue;
+			}
+			String value = property.getUnescapedValue();
+			if (profile == null) {
+				properties.put(key, value != null ? value : "");
+			} else if (!key.startsWith("%")) {
+				// Prefix all properties with profile and ignore any properties with a profile
+				properties.put("%" + profile + "." + key, value != null ? value : "");
+			}
+		}
+
+		// Collect the property keys (without profile) whose entries have been added, updated or removed
+		Set<String> changedPropertyKeys = new HashSet<>();
+		properties.forEach((key, val) -> {
+			if (!val.equals(config.get(key))) {
+				changedPropertyKeys.add(MicroProfileConfigPropertyInformation.getPropertyNameWithoutProfile((String) key));
+			}
+		});
+		config.forEach((key, val) -> {
+			if (!properties.containsKey(key)) {
+				changedPropertyKeys.add(MicroProfileConfigPropertyInformation.getPropertyNameWithoutProfile((String) key));
+			}
+		});
+		if (changedPropertyKeys.isEmpty()) {
+			return new LoadedConfig<>(config, propertyInformations);
+		}
+
+		// Load again only the property informations of the changed property keys
+		propertyValueExpander = null;
+		Map<String, List<MicroProfileConfigPropertyInformation>> updatedPropertyInformations = new HashMap<>(propertyInformations);
+		changedPropertyKeys.forEach(updatedPropertyInformations::remove);
+		String sourceConfigFileURI = getSourceConfigFileURI();
+		properties.forEach((key, val) -> {
+			String propertyKeyWithProfile = key.toString();
+			String propertyKey = MicroProfileConfigPropertyInformation.getPropertyNameWithoutProfile(propertyKeyWithProfile);
+			if (changedPropertyKeys.contains(propertyKey)) {
+				updatedPropertyInformations.computeIfAbsent(propertyKey, k -> new ArrayList<>())
+						.add(new MicroProfileConfigPropertyInformation(propertyKeyWithProfile, val.toString(),
+								sourceConfigFileURI, getConfigFileName()));
+			}
+		});
+		return new LoadedConfig<>(properties, updatedPropertyInformations);
+	}
+
+	@Override
+	protected Map<String, List<MicroProfileConfigPropertyInformation>> loadPropertyInformations(Properties config) {
 		Map<String /* property key without profile */, List<MicroProfileConfigPropertyInformation>> propertiesMap = new HashMap<>();
 		config.forEach((key, val) -> {
 			if (key != null) {
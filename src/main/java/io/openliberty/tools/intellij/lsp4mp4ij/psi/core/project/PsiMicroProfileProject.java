@@ -19,10 +19,9 @@ import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.project.ConfigS
 import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import org.eclipse.lsp4mp.commons.utils.ConfigSourcePropertiesProviderUtils;
 import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
-import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * JDT MicroProfile project.
@@ -34,10 +33,25 @@ public class PsiMicroProfileProject {
 
     private final Module javaProject;
 
-    private List<IConfigSource> configSources;
+    /**
+     * Immutable snapshot of the config sources and of the index of their properties.
+     *
+     * @param version         the version of the config sources, incremented each time a config source changes.
+     * @param configSources   the config sources sorted by ordinal and null if they are not loaded.
+     * @param propertiesIndex the index of the properties of the config sources and null if it is not built.
+     * @param previousIndex   the last built index, whose expanded values are reused to build the next one, or null.
+     */
+    private record ConfigSourcesSnapshot(long version, List<IConfigSource> configSources,
+                                         ConfigPropertiesIndex propertiesIndex, ConfigPropertiesIndex previousIndex) {
+
+        ConfigSourcesSnapshot evict(List<IConfigSource> configSources) {
+            return new ConfigSourcesSnapshot(version + 1, configSources, null,
+                    propertiesIndex != null ? propertiesIndex : previousIndex);
+        }
+    }
 
-    private transient IConfigSourcePropertiesProvider aggregatedPropertiesProvider = null;
-    private transient PropertyValueExpander propertyValueExpander = null;
+    // Readers never lock, a snapshot is replaced as a whole when the config sources are loaded or changed
+    private final AtomicReference<ConfigSourcesSnapshot> snapshot = new AtomicReference<>(new ConfigSourcesSnapshot(0, null, null, null));
 
     public PsiMicroProfileProject(Module javaProject) {
         this.javaProject = javaProject;
@@ -59,26 +73,8 @@ public class PsiMicroProfileProject {
      * defined in this project
      */
     public String getProperty(String propertyKey, String defaultValue) {
-
-        if (aggregatedPropertiesProvider == null) {
-            aggregatedPropertiesProvider = getAggregatedPropertiesProvider();
-        }
-
-        String unresolved = aggregatedPropertiesProvider.getValue(propertyKey);
-        if (unresolved == null) {
-            return defaultValue;
-        } else if (unresolved.contains("${")) {
-            if (propertyValueExpander == null) {
-                propertyValueExpander = new PropertyValueExpander(aggregatedPropertiesProvider);
-            }
-            String expandedValue = propertyValueExpander.getValue(propertyKey);
-            if (expandedValue == null) {
-                return defaultValue;
-            }
-            return expandedValue;
-        } else {
-            return unresolved;
-        }
+        String value = getSnapshot().propertiesIndex().getValue(propertyKey);
+        return value != null ? value : defaultValue;
     }
 
     /**
@@ -152,38 +148,18 @@ public class PsiMicroProfileProject {
      * defined in this project.
      */
     public List<MicroProfileConfigPropertyInformation> getPropertyInformations(String propertyKey) {
-        // Use a map to override property values
-        // eg. if application.yaml defines a value for a property it should override the
-        // value defined in application.properties
-        Map<String, MicroProfileConfigPropertyInformation> propertyToInfoMap = new HashMap<>();
-        // Go backwards so that application.properties replaces
-        // microprofile-config.properties, etc.
-        List<IConfigSource> configSources = getConfigSources();
-        for (int i = configSources.size() - 1; i >= 0; i--) {
-            IConfigSource configSource = configSources.get(i);
-            List<MicroProfileConfigPropertyInformation> propertyInformations = configSource
-                    .getPropertyInformations(propertyKey);
-            if (propertyInformations != null) {
-                for (MicroProfileConfigPropertyInformation propertyInformation : propertyInformations) {
-                    propertyToInfoMap.put(propertyInformation.getPropertyNameWithProfile(), propertyInformation);
-                }
-            }
-        }
-        return propertyToInfoMap.values().stream() //
-                .sorted((a, b) -> {
-                    return a.getPropertyNameWithProfile().compareTo(b.getPropertyNameWithProfile());
-                }) //
-                .map(info -> {
-                    String resolved = this.getProperty(info.getPropertyNameWithProfile());
-                    return new MicroProfileConfigPropertyInformation(info.getPropertyNameWithProfile(), resolved,
-                            info.getSourceConfigFileURI(), info.getConfigFileName());
-                }).collect(Collectors.toList());
+        return getSnapshot().propertiesIndex().getPropertyInformations(propertyKey);
     }
 
     public List<IConfigSource> getConfigSources() {
-        if (configSources == null) {
-            configSources = loadConfigSources(javaProject);
+        ConfigSourcesSnapshot current = snapshot.get();
+        if (current.configSources() != null) {
+            return current.configSources();
         }
+        List<IConfigSource> configSources = loadConfigSources(javaProject);
+        // If the snapshot has changed in the meantime, keep it: the loaded config sources are used only by this caller
+        snapshot.compareAndSet(current, new ConfigSourcesSnapshot(current.version(), configSources, null,
+                current.previousIndex()));
         return configSources;
     }
 
@@ -208,14 +184,18 @@ public class PsiMicroProfileProject {
             });
             if (!updated) {
                 // Remove from config sources cache, the config source file which has been deleted
-                configSources.remove(existingConfigSource);
+                snapshot.updateAndGet(current -> current.evict(current.configSources() != null ?
+                        current.configSources().stream()
+                                .filter(configSource -> configSource != existingConfigSource)
+                                .toList() : null));
+            } else {
+                // The reloaded config source is shared by the snapshots, only the index must be built again
+                snapshot.updateAndGet(current -> current.evict(current.configSources()));
             }
         } else {
             // The config source file doesn't exist, evict the full cache
-            configSources = null;
+            snapshot.updateAndGet(current -> current.evict(null));
         }
-        propertyValueExpander = null;
-        aggregatedPropertiesProvider = null;
     }
 
     private IConfigSource findConfigSource(VirtualFile file) {
@@ -235,19 +215,14 @@ public class PsiMicroProfileProject {
      * @param javaProject the Java project
      * @return the loaded config sources.
      */
-    private synchronized List<IConfigSource> loadConfigSources(Module javaProject) {
-        if (configSources != null) {
-            // Case when there are several Threads which load config sources, the second
-            // Thread should not reload the config sources again.
-            return configSources;
-        }
+    private static List<IConfigSource> loadConfigSources(Module javaProject) {
         List<IConfigSource> configSources = new ArrayList<>();
         VirtualFile outputFile = CompilerPaths.getModuleOutputDirectory(javaProject, false);
         for (IConfigSourceProvider provider : IConfigSourceProvider.EP_NAME.getExtensions()) {
             configSources.addAll(provider.getConfigSources(javaProject, outputFile));
         }
         Collections.sort(configSources, (a, b) -> b.getOrdinal() - a.getOrdinal());
-        return configSources;
+        return List.copyOf(configSources);
     }
 
 
@@ -260,17 +235,33 @@ public class PsiMicroProfileProject {
      * false otherwise
      */
     public boolean hasProperty(String property) {
-        List<IConfigSource> configSources = getConfigSources();
-        for (IConfigSource configSource : configSources) {
-            if (configSource.getPropertyInformations(property) != null) {
-                return true;
+        return getSnapshot().propertiesIndex().hasProperty(property);
+    }
+
+    /**
+     * Returns the current snapshot, loading the config sources and building the index of their properties if needed.
+     *
+     * @return the current snapshot with its properties index.
+     */
+    private ConfigSourcesSnapshot getSnapshot() {
+        while (true) {
+            ConfigSourcesSnapshot current = snapshot.get();
+            if (current.propertiesIndex() != null) {
+                return current;
+            }
+            List<IConfigSource> configSources = current.configSources() != null ? current.configSources() :
+                    loadConfigSources(javaProject);
+            ConfigSourcesSnapshot loaded = new ConfigSourcesSnapshot(current.version(), configSources,
+                    ConfigPropertiesIndex.build(configSources, getAggregatedPropertiesProvider(configSources),
+                            current.previousIndex()), null);
+            if (snapshot.compareAndSet(current, loaded)) {
+                return loaded;
             }
+            // A config source has changed or another thread has built the index in the meantime, use the new snapshot
         }
-        return false;
     }
 
-    private IConfigSourcePropertiesProvider getAggregatedPropertiesProvider() {
-        List<IConfigSource> configSources = getConfigSources();
+    private static IConfigSourcePropertiesProvider getAggregatedPropertiesProvider(List<IConfigSource> configSources) {
         if (configSources.size() == 0) {
             // Return an empty IConfigSourcePropertiesProvider
             return new IConfigSourcePropertiesProvider() {
@@ -116,7 +116,7 @@ public final class PsiMicroProfileProjectManager implements Disposable {
 			return false;
 		}
 		String fileName = file.getName();
-		for (IConfigSourceProvider provider : IConfigSourceProvider.EP_NAME.getExtensions()) {
+		for (IConfigSourceProvider provider : IConfigSourceProvider.EP_NAME.getExtensionList()) {
 			if (provider.isConfigSource(fileName)) {
 				return true;
 			}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils;
+
+import com.intellij.openapi.extensions.ExtensionPointName;
+import io.openliberty.tools.intellij.util.LibertyToolPluginDisposable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Extensions of an extension point grouped by a key (ex : the participants of the MicroProfile and Jakarta language
+ * servers grouped by their <code>group</code> attribute).
+ *
+ * <p>
+ * The groups are computed once and cleared when the extension point changes (ex : a plugin which contributes to the
+ * extension point is dynamically loaded or unloaded), so that a request gets the extensions of its group without
+ * filtering all the extensions. The change listener is disposed with the plugin, so that it doesn't keep the plugin
+ * class loader alive once the plugin is unloaded.
+ * </p>
+ *
+ * @param <K> the key type.
+ * @param <T> the extension type.
+ */
+public final class GroupedExtensions<K, T> {
+
+    private final ExtensionPointName<T> extensionPoint;
+    private final Function<T, K> keyMapper;
+
+    private volatile Map<K, List<T>> extensionsByKey;
+
+    /**
+     * Creates the groups of the extensions of the given extension point.
+     *
+     * @param extensionPoint the extension point.
+     * @param keyMapper      the function which returns the key of an extension, or null if the extension belongs to no
+     *                       group.
+     */
+    public GroupedExtensions(ExtensionPointName<T> extensionPoint, Function<T, K> keyMapper) {
+        this.extensionPoint = extensionPoint;
+        this.keyMapper = keyMapper;
+        extensionPoint.addChangeListener(this::clear, LibertyToolPluginDisposable.getInstance());
+    }
+
+    /**
+     * Returns the extensions of the given key, in the order of the extension point.
+     *
+     * @param key the key.
+     * @return the unmodifiable list of the extensions of the given key.
+     */
+    public List<T> get(K key) {
+        Map<K, List<T>> extensions = extensionsByKey;
+        if (extensions == null) {
+            extensions = load();
+        }
+        return extensions.getOrDefault(key, List.of());
+    }
+
+    private synchronized Map<K, List<T>> load() {
+        if (extensionsByKey == null) {
+            Map<K, List<T>> extensions = new HashMap<>();
+            for (T extension : extensionPoint.getExtensionList()) {
+                K key = keyMapper.apply(extension);
+                if (key != null) {
+                    extensions.computeIfAbsent(key, k -> new ArrayList<>()).add(extension);
+                }
+            }
+            extensions.replaceAll((key, list) -> List.copyOf(list));
+            extensionsByKey = extensions;
+        }
+        return extensionsByKey;
+    }
+
+    private synchronized void clear() {
+        extensionsByKey = null;
+    }
+}
@@ -30,6 +30,7 @@ import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4mp.commons.utils.AntPathMatcher;
 
 import java.text.MessageFormat;
+import java.util.Collection;
 import java.util.List;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
@@ -67,13 +68,10 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
     private static final String EMPTY_KEY_ERROR_MESSAGE = "The member ''{0}'' can'''t be empty.";
 
     private List<String> patterns;
-    // prefix from @ConfigProperties(prefix="")
-    private String currentPrefix;
 
     @Override
     public void initialize(JavaDiagnosticsContext context, List<Diagnostic> diagnostics) {
         super.initialize(context, diagnostics);
-        this.currentPrefix = null;
         this.patterns = getPatternsFromContext(context);
     }
 
@@ -88,18 +86,37 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
     }
 
     @Override
-    public void visitClass(PsiClass typeDeclaration) {
-        // Get prefix from @ConfigProperties(prefix="")
-        for (PsiAnnotation annotation : typeDeclaration.getAnnotations()) {
-            if (AnnotationUtils.isMatchAnnotation(annotation, CONFIG_PROPERTIES_ANNOTATION)) {
-                PsiAnnotationMemberValue prefixExpr = getAnnotationMemberValueExpression(annotation, MicroProfileConfigConstants.CONFIG_PROPERTIES_ANNOTATION_PREFIX);
-                if (prefixExpr instanceof PsiLiteral && ((PsiLiteral) prefixExpr).getValue() instanceof String) {
-                    currentPrefix = (String) ((PsiLiteral) prefixExpr).getValue();
+    public Collection<String> getAnnotationNames() {
+        // The prefix from @ConfigProperties is read from the classes which enclose the @ConfigProperty field
+        return List.of(CONFIG_PROPERTY_ANNOTATION);
+    }
+
+    /**
+     * Returns the prefix from <code>@ConfigProperties(prefix="")</code> of the
+     * nearest class enclosing the given field which declares one and null
+     * otherwise.
+     *
+     * @param field the field annotated with <code>@ConfigProperty</code>.
+     * @return the prefix from <code>@ConfigProperties(prefix="")</code> and null
+     *         otherwise.
+     */
+    private static String getPrefix(PsiField field) {
+        for (PsiClass typeDeclaration = field.getContainingClass(); typeDeclaration != null;
+             typeDeclaration = PsiTreeUtil.getParentOfType(typeDeclaration, PsiClass.class)) {
+            String prefix = null;
+            for (PsiAnnotation annotation : typeDeclaration.getAnnotations()) {
+                if (AnnotationUtils.isMatchAnnotation(annotation, CONFIG_PROPERTIES_ANNOTATION)) {
+                    PsiAnnotationMemberValue prefixExpr = getAnnotationMemberValueExpression(annotation, MicroProfileConfigConstants.CONFIG_PROPERTIES_ANNOTATION_PREFIX);
+                    if (prefixExpr instanceof PsiLiteral && ((PsiLiteral) prefixExpr).getValue() instanceof String) {
+                        prefix = (String) ((PsiLiteral) prefixExpr).getValue();
+                    }
                 }
             }
+            if (prefix != null) {
+                return prefix;
+            }
         }
-        typeDeclaration.acceptChildren(this);
-        this.currentPrefix = null;
+        return null;
     }
 
     @Override
@@ -108,7 +125,7 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
         if (AnnotationUtils.isMatchAnnotation(annotation, CONFIG_PROPERTY_ANNOTATION) && parent != null) {
             PsiAnnotationMemberValue defaultValueExpr = getAnnotationMemberValueExpression(annotation, MicroProfileConfigConstants.CONFIG_PROPERTY_ANNOTATION_DEFAULT_VALUE);
             validatePropertyDefaultValue(annotation, defaultValueExpr, parent);
-            validatePropertyHasValue(annotation, defaultValueExpr);
+            validatePropertyHasValue(annotation, defaultValueExpr, getPrefix(parent));
         }
     }
 
@@ -153,8 +170,10 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
      * @param annotation       the ConfigProperty annotation
      * @param defaultValueExpr the default value expression, or null if no default
      *                         value is defined
+     * @param prefix           the prefix from <code>@ConfigProperties(prefix="")</code>
+     *                         of the enclosing classes, or null if they have no prefix
      */
-    private void validatePropertyHasValue(PsiAnnotation annotation, PsiAnnotationMemberValue defaultValueExpr) {
+    private void validatePropertyHasValue(PsiAnnotation annotation, PsiAnnotationMemberValue defaultValueExpr, String prefix) {
         String name = null;
         PsiAnnotationMemberValue nameExpression = getAnnotationMemberValueExpression(annotation,
                 CONFIG_PROPERTY_ANNOTATION_NAME);
@@ -162,7 +181,7 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
 
         if (nameExpression instanceof PsiLiteral && ((PsiLiteral) nameExpression).getValue() instanceof String) {
             name = (String) ((PsiLiteral) nameExpression).getValue();
-            name = MicroProfileConfigPropertyProvider.getPropertyName(name, currentPrefix);
+            name = MicroProfileConfigPropertyProvider.getPropertyName(name, prefix);
         }
 
         if (name != null) {
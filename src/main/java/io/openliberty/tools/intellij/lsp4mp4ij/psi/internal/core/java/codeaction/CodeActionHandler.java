@@ -18,6 +18,7 @@ import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.codeaction.Extended
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.codeaction.IJavaCodeActionParticipant;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.codeaction.JavaCodeActionContext;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.codeaction.JavaCodeActionResolveContext;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.GroupedExtensions;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.corrections.DiagnosticsHelper;
 import org.eclipse.lsp4j.CodeAction;
@@ -43,6 +44,10 @@ import java.util.stream.Collectors;
 public final class CodeActionHandler {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(CodeActionHandler.class);
+
+	private static final GroupedExtensions<String, JavaCodeActionDefinition> DEFINITIONS =
+			new GroupedExtensions<>(JavaCodeActionDefinition.EP, JavaCodeActionDefinition::getGroup);
+
 	private final String group;
 
 	public CodeActionHandler(String group) {
@@ -92,18 +97,20 @@ public final class CodeActionHandler {
 				codeActionKinds.addAll(defaultCodeActionKinds);
 			}
 
+			// The participants only list unresolved code actions which read the PSI, the copy of the compilation unit
+			// in which a proposal computes its edit is created when the code action is resolved.
 			List<CodeAction> codeActions = new ArrayList<>();
 			Map<String, List<JavaCodeActionDefinition>> forDiagnostics = new HashMap<>();
 
 			// Loop for each code action kinds to process the proper code actions
 			for (String codeActionKind : codeActionKinds) {
 				// Get list of code action definition for the given kind
-				List<JavaCodeActionDefinition> codeActionDefinitions = JavaCodeActionDefinition.EP.getExtensionList()
-						.stream()
-						.filter(definition -> group.equals(definition.getGroup()))
-						.filter(definition -> definition.isAdaptedForCodeAction(context))
-						.filter(definition -> codeActionKind.equals(definition.getKind()))
-						.collect(Collectors.toList());
+				List<JavaCodeActionDefinition> codeActionDefinitions = new ArrayList<>();
+				for (JavaCodeActionDefinition definition : DEFINITIONS.get(group)) {
+					if (definition.isAdaptedForCodeAction(context) && codeActionKind.equals(definition.getKind())) {
+						codeActionDefinitions.add(definition);
+					}
+				}
 				if (codeActionDefinitions != null) {
 					// Loop for each code action definition
 					for (JavaCodeActionDefinition definition : codeActionDefinitions) {
@@ -119,7 +126,7 @@ public final class CodeActionHandler {
 							definitionsFor.add(definition);
 						} else {
 							// Collect the code actions
-							codeActions.addAll(definition.getCodeActions(context.copy(), null));
+							codeActions.addAll(definition.getCodeActions(context, null));
 						}
 					}
 				}
@@ -140,7 +147,7 @@ public final class CodeActionHandler {
 						if (definitionsFor != null) {
 							for (JavaCodeActionDefinition definition : definitionsFor) {
 								// Collect the code actions to fix the given diagnostic
-								codeActions.addAll(definition.getCodeActions(context.copy(), diagnostic));
+								codeActions.addAll(definition.getCodeActions(context, diagnostic));
 							}
 						}
 					}
@@ -205,12 +212,14 @@ public final class CodeActionHandler {
 					start, end - start, utils, params, unresolved);
 			context.setASTRoot(getASTRoot(unit));
 
-			IJavaCodeActionParticipant participant = JavaCodeActionDefinition.EP.getExtensionList()
-					.stream()
-					.filter(definition -> unresolved.getKind().startsWith(definition.getKind()))
-					.filter(definition -> group.equals(definition.getGroup()))
-					.filter(definition -> participantId.equals(definition.getParticipantId()))
-					.findFirst().orElse(null);
+			IJavaCodeActionParticipant participant = null;
+			for (JavaCodeActionDefinition definition : DEFINITIONS.get(group)) {
+				if (unresolved.getKind().startsWith(definition.getKind())
+						&& participantId.equals(definition.getParticipantId())) {
+					participant = definition;
+					break;
+				}
+			}
 			return participant.resolveCodeAction(context.copy());
 		} catch (IOException e) {
 			LOGGER.error("Failed to resolve code action: "+ e.getMessage());
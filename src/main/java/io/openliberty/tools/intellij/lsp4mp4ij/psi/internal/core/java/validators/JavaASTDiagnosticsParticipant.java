@@ -13,6 +13,7 @@
 *******************************************************************************/
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.validators;
 
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiFile;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
@@ -45,11 +46,29 @@ public class JavaASTDiagnosticsParticipant implements IJavaDiagnosticsParticipan
 		// Collect the list of JavaASTValidator which are adapted for the current AST
 		// compilation unit to validate.
 		Collection<JavaASTValidator> validators = JavaASTValidatorRegistry.getInstance().getValidators(context, diagnostics);
+		PsiFile ast = context.getASTRoot();
+		// Ignore the validators whose annotations are not referenced by the Java file.
+		CharSequence text = ast.getViewProvider().getContents();
+		validators.removeIf(validator -> !isAnnotationReferenced(validator, text));
 		if (!validators.isEmpty()) {
 			// Visit the AST compilation unit and process each validator.
-			PsiFile ast = context.getASTRoot();
 			ast.accept(new MultiASTVisitor(validators));
 		}
 	}
 
+	private static boolean isAnnotationReferenced(JavaASTValidator validator, CharSequence text) {
+		Collection<String> annotationNames = validator.getAnnotationNames();
+		if (annotationNames == null) {
+			// The validator visits all the AST
+			return true;
+		}
+		for (String annotationName : annotationNames) {
+			// An annotation is referenced by its simple name or its qualified name which ends with the simple name
+			if (StringUtil.contains(text, MultiASTVisitor.getSimpleName(annotationName))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 }
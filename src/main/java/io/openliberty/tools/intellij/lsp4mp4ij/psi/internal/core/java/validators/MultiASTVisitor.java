@@ -21,14 +21,26 @@ import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiMethod;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTValidator;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Multiple JDT AST visitor.
+ *
+ * <p>
+ * The validators which declare the annotations they validate (see
+ * {@link JavaASTValidator#getAnnotationNames()}) are called only for those
+ * annotations, dispatched by annotation simple name while this visitor walks
+ * the AST once. The other validators visit the AST by themselves from each top
+ * level class.
+ * </p>
  * 
  * @author Angelo ZERR
  *
@@ -36,51 +48,89 @@ import java.util.logging.Logger;
 public class MultiASTVisitor extends JavaRecursiveElementVisitor {
 
 	private static final Logger LOGGER = Logger.getLogger(MultiASTVisitor.class.getName());
-	private final Collection<JavaASTValidator> visitors;
+
+	// Validators which visit all the AST
+	private final List<JavaASTValidator> visitors;
+
+	// Validators which visit only some annotations, by annotation simple name
+	private final Map<String, List<JavaASTValidator>> annotationVisitors;
+
+	private int classDepth;
 
 	public MultiASTVisitor(Collection<JavaASTValidator> visitors) {
-		this.visitors = visitors;
+		this.visitors = new ArrayList<>();
+		this.annotationVisitors = new HashMap<>();
+		for (JavaASTValidator visitor : visitors) {
+			Collection<String> annotationNames = visitor.getAnnotationNames();
+			if (annotationNames == null) {
+				this.visitors.add(visitor);
+			} else {
+				for (String annotationName : annotationNames) {
+					List<JavaASTValidator> validators = annotationVisitors.computeIfAbsent(getSimpleName(annotationName), k -> new ArrayList<>());
+					if (!validators.contains(visitor)) {
+						validators.add(visitor);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the simple name of the given annotation name, the annotation name
+	 * being qualified or not (ex : unresolved annotation).
+	 *
+	 * @param annotationName the annotation name.
+	 * @return the simple name of the given annotation name.
+	 */
+	static String getSimpleName(String annotationName) {
+		return annotationName.substring(annotationName.lastIndexOf('.') + 1);
 	}
 
 	@Override
 	public void visitAnnotation(PsiAnnotation node) {
-		for (JavaRecursiveElementVisitor visitor : visitors) {
-			try {
-				visitor.visitAnnotation(node);
-			} catch (ProcessCanceledException e) {
-				//Since 2024.2 ProcessCanceledException extends CancellationException so we can't use multicatch to keep backward compatibility
-				//TODO delete block when minimum required version is 2024.2
-				throw e;
-			} catch (IndexNotReadyException | CancellationException e) {
-				throw e;
-			} catch (Exception e) {
-				LOGGER.log(Level.WARNING, "Error while visiting node with " + visitor.getClass().getName(), e);
+		if (classDepth == 0) {
+			// The annotation is not visited by the validators which visit a top level class
+			visit(visitors, visitor -> visitor.visitAnnotation(node));
+		}
+		String annotationName = node.getQualifiedName();
+		if (annotationName != null) {
+			List<JavaASTValidator> validators = annotationVisitors.get(getSimpleName(annotationName));
+			if (validators != null) {
+				visit(validators, visitor -> visitor.visitAnnotation(node));
 			}
 		}
 	}
 
 	@Override
 	public void visitClass(PsiClass node) {
-		for (JavaRecursiveElementVisitor visitor : visitors) {
+		if (classDepth == 0) {
+			visit(visitors, visitor -> visitor.visitClass(node));
+		}
+		if (!annotationVisitors.isEmpty()) {
+			// Walk the class to dispatch its annotations
+			classDepth++;
 			try {
-				visitor.visitClass(node);
-			} catch (ProcessCanceledException e) {
-				//Since 2024.2 ProcessCanceledException extends CancellationException so we can't use multicatch to keep backward compatibility
-				//TODO delete block when minimum required version is 2024.2
-				throw e;
-			} catch (IndexNotReadyException | CancellationException e) {
-				throw e;
-			} catch (Exception e) {
-				LOGGER.log(Level.WARNING, "Error while visiting node with " + visitor.getClass().getName(), e);
+				super.visitClass(node);
+			} finally {
+				classDepth--;
 			}
 		}
 	}
 
 	@Override
 	public void visitMethod(PsiMethod node) {
-		for (JavaRecursiveElementVisitor visitor : visitors) {
+		if (classDepth == 0) {
+			visit(visitors, visitor -> visitor.visitMethod(node));
+		}
+		if (!annotationVisitors.isEmpty()) {
+			super.visitMethod(node);
+		}
+	}
+
+	private static void visit(List<JavaASTValidator> visitors, Consumer<JavaASTValidator> visit) {
+		for (JavaASTValidator visitor : visitors) {
 			try {
-				visitor.visitMethod(node);
+				visit.accept(visitor);
 			} catch (ProcessCanceledException e) {
 				//Since 2024.2 ProcessCanceledException extends CancellationException so we can't use multicatch to keep backward compatibility
 				//TODO delete block when minimum required version is 2024.2
@@ -92,4 +142,4 @@ public class MultiASTVisitor extends JavaRecursiveElementVisitor {
 			}
 		}
 	}
-}
+}
\ No newline at end of file
@@ -25,6 +25,7 @@ import org.eclipse.lsp4j.DiagnosticSeverity;
 import java.text.MessageFormat;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -84,42 +85,71 @@ public class MicroProfileFaultToleranceASTValidator extends JavaASTValidator {
 	}
 
 	@Override
-	public void visitMethod(PsiMethod node) {
-		validateMethod(node);
+	public Collection<String> getAnnotationNames() {
+		return List.of(FALLBACK_ANNOTATION, ASYNCHRONOUS_ANNOTATION, RETRY_ANNOTATION);
 	}
 
 	@Override
-	public void visitClass(PsiClass type) {
-		for (PsiAnnotation annotation : type.getAnnotations()) {
+	public void visitAnnotation(PsiAnnotation annotation) {
+		PsiElement owner = annotation.getParent() instanceof PsiModifierList ? annotation.getParent().getParent() : null;
+		if (owner == null || PsiTreeUtil.getParentOfType(owner, PsiMethod.class, true) != null) {
+			// The classes declared in a method body are not validated
+			return;
+		}
+		if (owner instanceof PsiMethod node) {
+			validateMethodAnnotation(node, annotation);
+		} else if (owner instanceof PsiClass type) {
+			if (followsAsynchronousAnnotation(type, annotation)) {
+				// The class annotations which follow @Asynchronous are not validated
+				return;
+			}
 			if (isMatchAnnotation(annotation, ASYNCHRONOUS_ANNOTATION)) {
 				PsiMethod[] methods = type.getMethods();
 				for (PsiMethod node : methods) {
 					validateAsynchronousAnnotation(node, annotation);
 				}
-				break;
 			} else if (isMatchAnnotation(annotation, RETRY_ANNOTATION)) {
 				validateRetryAnnotation(annotation);
 			}
 		}
-		type.acceptChildren(this);
 	}
 
 	/**
-	 * Checks if the given method declaration has a supported annotation, and if so,
-	 * provides diagnostics if necessary
+	 * Returns true if the given annotation of the given class follows an
+	 * <code>@Asynchronous</code> annotation and false otherwise.
 	 *
-	 * @param node The method declaration to validate
+	 * @param type       The class declaration
+	 * @param annotation The annotation of the class declaration
+	 * @return true if the given annotation follows an <code>@Asynchronous</code>
+	 *         annotation and false otherwise.
 	 */
-	private void validateMethod(PsiMethod node) {
-		for (PsiAnnotation annotation : node.getAnnotations()) {
-			if (isMatchAnnotation(annotation, FALLBACK_ANNOTATION)) {
-				validateFallbackAnnotation(node, annotation);
-			} else if (isMatchAnnotation(annotation, ASYNCHRONOUS_ANNOTATION)) {
-				validateAsynchronousAnnotation(node, annotation);
-			} else if (isMatchAnnotation(annotation, RETRY_ANNOTATION)) {
-				validateRetryAnnotation(annotation);
+	private static boolean followsAsynchronousAnnotation(PsiClass type, PsiAnnotation annotation) {
+		for (PsiAnnotation classAnnotation : type.getAnnotations()) {
+			if (classAnnotation == annotation) {
+				return false;
+			}
+			if (isMatchAnnotation(classAnnotation, ASYNCHRONOUS_ANNOTATION)) {
+				return true;
 			}
 		}
+		return false;
+	}
+
+	/**
+	 * Checks if the given annotation of the given method declaration is a supported
+	 * annotation, and if so, provides diagnostics if necessary
+	 *
+	 * @param node       The method declaration to validate
+	 * @param annotation The annotation of the method declaration
+	 */
+	private void validateMethodAnnotation(PsiMethod node, PsiAnnotation annotation) {
+		if (isMatchAnnotation(annotation, FALLBACK_ANNOTATION)) {
+			validateFallbackAnnotation(node, annotation);
+		} else if (isMatchAnnotation(annotation, ASYNCHRONOUS_ANNOTATION)) {
+			validateAsynchronousAnnotation(node, annotation);
+		} else if (isMatchAnnotation(annotation, RETRY_ANNOTATION)) {
+			validateRetryAnnotation(annotation);
+		}
 	}
 
 	/**
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hits and misses of one cache used while handling the language client requests.
+ */
+public final class CacheMetrics {
+
+    private final String name;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    CacheMetrics(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records a lookup answered from the cache.
+     */
+    public void hit() {
+        hits.incrementAndGet();
+    }
+
+    /**
+     * Records a lookup which required to compute the value.
+     */
+    public void miss() {
+        misses.incrementAndGet();
+    }
+
+    /**
+     * Returns an immutable snapshot of the metrics.
+     *
+     * @return an immutable snapshot of the metrics.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(name, hits.get(), misses.get());
+    }
+
+    /**
+     * Hits and misses of a cache.
+     */
+    public record Snapshot(String name, long hits, long misses) {
+
+        /**
+         * Returns the ratio of lookups answered from the cache, between 0 and 1.
+         *
+         * @return the ratio of lookups answered from the cache.
+         */
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+}
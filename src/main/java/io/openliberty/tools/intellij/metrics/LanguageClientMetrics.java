@@ -0,0 +1,282 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.metrics;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.Project;
+import org.eclipse.lsp4j.CompletionList;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Project-level latency and throughput metrics of the requests handled by the MicroProfile and Jakarta
+ * language clients, grouped by LSP method, and hit counts of the caches used to handle them.
+ *
+ * <p>
+ * A language client starts a {@link RequestTracker} for each request, wraps the code given to
+ * {@code runAsBackground} with {@link RequestTracker#wrap(Function)} and the returned future with
+ * {@link RequestTracker#track(CompletableFuture)} (see {@link MeasuredLanguageClient}).
+ * </p>
+ *
+ * <p>
+ * A request started while an older request with the same coalesce key is pending supersedes it: if the older
+ * request is then cancelled, it is counted as coalesced rather than cancelled.
+ * </p>
+ */
+public final class LanguageClientMetrics {
+
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    public static LanguageClientMetrics getInstance(@NotNull Project project) {
+        return project.getService(LanguageClientMetrics.class);
+    }
+
+    private final Map<String, RequestMetrics> metricsByMethod = new ConcurrentHashMap<>();
+    private final Map<Object, RequestTracker> pendingByCoalesceKey = new ConcurrentHashMap<>();
+    private final Map<String, CacheMetrics> metricsByCache = new ConcurrentHashMap<>();
+
+    /**
+     * Starts tracking a request of the given LSP method.
+     *
+     * @param method      the LSP method (ex : microprofile/java/hover).
+     * @param coalesceKey the key used by the language client to coalesce the request with the newer ones, or null.
+     * @return the tracker of the request.
+     */
+    public RequestTracker startRequest(String method, @Nullable Object coalesceKey) {
+        RequestMetrics metrics = metricsByMethod.computeIfAbsent(method, RequestMetrics::new);
+        metrics.requested();
+        RequestTracker tracker = new RequestTracker(metrics, coalesceKey);
+        if (coalesceKey != null) {
+            RequestTracker previous = pendingByCoalesceKey.put(coalesceKey, tracker);
+            if (previous != null) {
+                previous.superseded = true;
+            }
+        }
+        return tracker;
+    }
+
+    /**
+     * Returns the metrics of the cache with the given name.
+     *
+     * @param name the cache name.
+     * @return the metrics of the cache with the given name.
+     */
+    public CacheMetrics getCacheMetrics(String name) {
+        return metricsByCache.computeIfAbsent(name, CacheMetrics::new);
+    }
+
+    /**
+     * Returns the metrics of each LSP method sorted by method.
+     *
+     * @return the metrics of each LSP method sorted by method.
+     */
+    public List<RequestMetrics.Snapshot> snapshot() {
+        return metricsByMethod.values()
+                .stream()
+                .map(RequestMetrics::snapshot)
+                .sorted(Comparator.comparing(RequestMetrics.Snapshot::method))
+                .toList();
+    }
+
+    /**
+     * Returns the metrics of each cache sorted by name.
+     *
+     * @return the metrics of each cache sorted by name.
+     */
+    public List<CacheMetrics.Snapshot> cacheSnapshot() {
+        return metricsByCache.values()
+                .stream()
+                .map(CacheMetrics::snapshot)
+                .sorted(Comparator.comparing(CacheMetrics.Snapshot::name))
+                .toList();
+    }
+
+    /**
+     * Clears all the metrics.
+     */
+    public void reset() {
+        metricsByMethod.clear();
+        metricsByCache.clear();
+    }
+
+    /**
+     * Returns the metrics as JSON. Durations are in milliseconds.
+     *
+     * @return the metrics as JSON.
+     */
+    public String toJson() {
+        JsonObject root = new JsonObject();
+        root.addProperty("timestamp", Instant.now().toString());
+        JsonArray methods = new JsonArray();
+        for (RequestMetrics.Snapshot snapshot : snapshot()) {
+            JsonObject method = new JsonObject();
+            method.addProperty("method", snapshot.method());
+            method.addProperty("requests", snapshot.requests());
+            method.addProperty("completed", snapshot.completed());
+            method.addProperty("coalesced", snapshot.coalesced());
+            method.addProperty("cancelled", snapshot.cancelled());
+            method.addProperty("failed", snapshot.failed());
+            method.addProperty("restarts", snapshot.restarts());
+            method.addProperty("meanResultSize", snapshot.meanResultSize());
+            method.add("queue", toJson(snapshot.queue()));
+            method.add("compute", toJson(snapshot.compute()));
+            method.add("total", toJson(snapshot.total()));
+            methods.add(method);
+        }
+        root.add("methods", methods);
+        JsonArray caches = new JsonArray();
+        for (CacheMetrics.Snapshot snapshot : cacheSnapshot()) {
+            JsonObject cache = new JsonObject();
+            cache.addProperty("name", snapshot.name());
+            cache.addProperty("hits", snapshot.hits());
+            cache.addProperty("misses", snapshot.misses());
+            cache.addProperty("hitRate", snapshot.hitRate());
+            caches.add(cache);
+        }
+        root.add("caches", caches);
+        return new GsonBuilder().setPrettyPrinting().create().toJson(root);
+    }
+
+    private static JsonObject toJson(LatencyHistogram.Snapshot snapshot) {
+        JsonObject histogram = new JsonObject();
+        histogram.addProperty("count", snapshot.count());
+        histogram.addProperty("mean", toMillis(snapshot.mean()));
+        histogram.addProperty("p50", toMillis(snapshot.p50()));
+        histogram.addProperty("p95", toMillis(snapshot.p95()));
+        histogram.addProperty("p99", toMillis(snapshot.p99()));
+        histogram.addProperty("max", toMillis(snapshot.max()));
+        return histogram;
+    }
+
+    /**
+     * Writes the metrics as JSON in the given file.
+     *
+     * @param file the file.
+     * @throws IOException if the file cannot be written.
+     */
+    public void dump(Path file) throws IOException {
+        Files.writeString(file, toJson(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the given duration in milliseconds.
+     *
+     * @param nanos the duration in nanoseconds.
+     * @return the given duration in milliseconds.
+     */
+    public static double toMillis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Tracker of one language client request.
+     */
+    public final class RequestTracker {
+
+        private final RequestMetrics metrics;
+        private final @Nullable Object coalesceKey;
+        private final long requestTime = System.nanoTime();
+        private final AtomicBoolean started = new AtomicBoolean();
+        // true when a newer request with the same coalesce key was started before this request completed
+        private volatile boolean superseded;
+
+        private RequestTracker(RequestMetrics metrics, @Nullable Object coalesceKey) {
+            this.metrics = metrics;
+            this.coalesceKey = coalesceKey;
+        }
+
+        /**
+         * Returns the given code recording the queue and compute durations and the size of the result.
+         *
+         * @param code the code computing the result of the request.
+         * @param <R>  the result type.
+         * @return the given code recording the queue and compute durations and the size of the result.
+         */
+        public <R> Function<ProgressIndicator, R> wrap(Function<ProgressIndicator, R> code) {
+            return monitor -> {
+                long start = System.nanoTime();
+                // The code is called again when a write action cancels the read action.
+                metrics.started(start - requestTime, !started.compareAndSet(false, true));
+                R result = code.apply(monitor);
+                metrics.computed(System.nanoTime() - start, sizeOf(result));
+                return result;
+            };
+        }
+
+        /**
+         * Records the outcome and the total duration of the request when the given future completes.
+         *
+         * @param future the future of the request.
+         * @param <R>    the result type.
+         * @return the given future.
+         */
+        public <R> CompletableFuture<R> track(CompletableFuture<R> future) {
+            future.whenComplete((result, error) -> {
+                long totalNanos = System.nanoTime() - requestTime;
+                if (coalesceKey != null) {
+                    pendingByCoalesceKey.remove(coalesceKey, this);
+                }
+                if (error == null) {
+                    metrics.completed(totalNanos);
+                } else if (unwrap(error) instanceof CancellationException) {
+                    if (superseded) {
+                        metrics.coalesced(totalNanos);
+                    } else {
+                        metrics.cancelled(totalNanos);
+                    }
+                } else {
+                    metrics.failed(totalNanos);
+                }
+            });
+            return future;
+        }
+
+        private static Throwable unwrap(Throwable error) {
+            return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        }
+
+        private static int sizeOf(Object result) {
+            if (result == null) {
+                return 0;
+            }
+            if (result instanceof Collection<?> collection) {
+                return collection.size();
+            }
+            if (result instanceof CompletionList completionList) {
+                return completionList.getItems() != null ? completionList.getItems().size() : 0;
+            }
+            if (result instanceof MicroProfileProjectInfo projectInfo) {
+                return (projectInfo.getProperties() != null ? projectInfo.getProperties().size() : 0)
+                        + (projectInfo.getHints() != null ? projectInfo.getHints().size() : 0);
+            }
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.metrics;
+
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.actionSystem.ActionManager;
+import com.intellij.openapi.actionSystem.ActionPlaces;
+import com.intellij.openapi.actionSystem.ActionToolbar;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.DefaultActionGroup;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.fileChooser.FileChooserFactory;
+import com.intellij.openapi.fileChooser.FileSaverDescriptor;
+import com.intellij.openapi.project.DumbAwareAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.ui.SimpleToolWindowPanel;
+import com.intellij.openapi.vfs.VirtualFileWrapper;
+import com.intellij.ui.JBSplitter;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.table.JBTable;
+import io.openliberty.tools.intellij.util.LocalizedResourceUtil;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Tool window tab showing the {@link LanguageClientMetrics} of a project.
+ */
+public final class LanguageClientMetricsPanel extends SimpleToolWindowPanel implements Disposable {
+
+    private static final Logger LOGGER = Logger.getInstance(LanguageClientMetricsPanel.class);
+
+    private static final int REFRESH_DELAY_MS = 2000;
+
+    private static final String[] COLUMN_KEYS = {"method", "requests", "completed", "coalesced", "cancelled", "failed",
+            "restarts", "mean.result.size", "queue.p50", "queue.p95", "queue.p99", "compute.p50", "compute.p95",
+            "compute.p99", "total.p50", "total.p95", "total.p99"};
+
+    private static final String[] CACHE_COLUMN_KEYS = {"name", "hits", "misses", "hit.rate"};
+
+    private final Project project;
+    private final MetricsTableModel model = new MetricsTableModel();
+    private final CacheMetricsTableModel cacheModel = new CacheMetricsTableModel();
+    private final Timer refreshTimer;
+
+    public LanguageClientMetricsPanel(@NotNull Project project) {
+        super(true, true);
+        this.project = project;
+        JBTable table = new JBTable(model);
+        table.setAutoCreateRowSorter(true);
+        JBTable cacheTable = new JBTable(cacheModel);
+        cacheTable.setAutoCreateRowSorter(true);
+        JBSplitter splitter = new JBSplitter(true, 0.8f);
+        splitter.setFirstComponent(new JBScrollPane(table));
+        splitter.setSecondComponent(new JBScrollPane(cacheTable));
+        setContent(splitter);
+        setToolbar(buildActionToolbar(table).getComponent());
+        refreshTimer = new Timer(REFRESH_DELAY_MS, e -> refresh());
+        refreshTimer.start();
+        refresh();
+    }
+
+    private ActionToolbar buildActionToolbar(JComponent target) {
+        DefaultActionGroup group = new DefaultActionGroup();
+        group.add(new DumbAwareAction(LocalizedResourceUtil.getMessage("liberty.performance.refresh"), null, AllIcons.Actions.Refresh) {
+            @Override
+            public void actionPerformed(@NotNull AnActionEvent e) {
+                refresh();
+            }
+        });
+        group.add(new DumbAwareAction(LocalizedResourceUtil.getMessage("liberty.performance.reset"), null, AllIcons.Actions.GC) {
+            @Override
+            public void actionPerformed(@NotNull AnActionEvent e) {
+                LanguageClientMetrics.getInstance(project).reset();
+                refresh();
+            }
+        });
+        group.add(new DumbAwareAction(LocalizedResourceUtil.getMessage("liberty.performance.export"), null, AllIcons.ToolbarDecorator.Export) {
+            @Override
+            public void actionPerformed(@NotNull AnActionEvent e) {
+                exportToJson();
+            }
+        });
+        ActionToolbar actionToolbar = ActionManager.getInstance().createActionToolbar(ActionPlaces.TOOLBAR, group, true);
+        actionToolbar.setTargetComponent(target);
+        return actionToolbar;
+    }
+
+    private void refresh() {
+        LanguageClientMetrics metrics = LanguageClientMetrics.getInstance(project);
+        model.setRows(metrics.snapshot());
+        cacheModel.setRows(metrics.cacheSnapshot());
+    }
+
+    private void exportToJson() {
+        FileSaverDescriptor descriptor = new FileSaverDescriptor(LocalizedResourceUtil.getMessage("liberty.performance.export"),
+                LocalizedResourceUtil.getMessage("liberty.performance.export.description"), "json");
+        VirtualFileWrapper wrapper = FileChooserFactory.getInstance().createSaveFileDialog(descriptor, project)
+                .save("liberty-tools-performance.json");
+        if (wrapper == null) {
+            return;
+        }
+        try {
+            LanguageClientMetrics.getInstance(project).dump(wrapper.getFile().toPath());
+        } catch (IOException e) {
+            LOGGER.warn("Failed to export the Liberty Tools performance metrics", e);
+            Messages.showErrorDialog(project, e.getLocalizedMessage(), LocalizedResourceUtil.getMessage("liberty.performance.export"));
+        }
+    }
+
+    @Override
+    public void dispose() {
+        refreshTimer.stop();
+    }
+
+    private static final class MetricsTableModel extends AbstractTableModel {
+
+        private List<RequestMetrics.Snapshot> rows = List.of();
+
+        void setRows(List<RequestMetrics.Snapshot> rows) {
+            this.rows = rows;
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return rows.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMN_KEYS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return LocalizedResourceUtil.getMessage("liberty.performance.column." + COLUMN_KEYS[column]);
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            return switch (column) {
+                case 0 -> String.class;
+                case 1, 2, 3, 4, 5, 6 -> Long.class;
+                default -> Double.class;
+            };
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            RequestMetrics.Snapshot snapshot = rows.get(row);
+            return switch (column) {
+                case 0 -> snapshot.method();
+                case 1 -> snapshot.requests();
+                case 2 -> snapshot.completed();
+                case 3 -> snapshot.coalesced();
+                case 4 -> snapshot.cancelled();
+                case 5 -> snapshot.failed();
+                case 6 -> snapshot.restarts();
+                case 7 -> round(snapshot.meanResultSize());
+                case 8 -> millis(snapshot.queue().p50());
+                case 9 -> millis(snapshot.queue().p95());
+                case 10 -> millis(snapshot.queue().p99());
+                case 11 -> millis(snapshot.compute().p50());
+                case 12 -> millis(snapshot.compute().p95());
+                case 13 -> millis(snapshot.compute().p99());
+                case 14 -> millis(snapshot.total().p50());
+                case 15 -> millis(snapshot.total().p95());
+                case 16 -> millis(snapshot.total().p99());
+                default -> null;
+            };
+        }
+
+        private static double millis(long nanos) {
+            return round(LanguageClientMetrics.toMillis(nanos));
+        }
+    }
+
+    private static final class CacheMetricsTableModel extends AbstractTableModel {
+
+        private List<CacheMetrics.Snapshot> rows = List.of();
+
+        void setRows(List<CacheMetrics.Snapshot> rows) {
+            this.rows = rows;
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return rows.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return CACHE_COLUMN_KEYS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return LocalizedResourceUtil.getMessage("liberty.performance.cache.column." + CACHE_COLUMN_KEYS[column]);
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            return switch (column) {
+                case 0 -> String.class;
+                case 1, 2 -> Long.class;
+                default -> Double.class;
+            };
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            CacheMetrics.Snapshot snapshot = rows.get(row);
+            return switch (column) {
+                case 0 -> snapshot.name();
+                case 1 -> snapshot.hits();
+                case 2 -> snapshot.misses();
+                case 3 -> round(snapshot.hitRate());
+                default -> null;
+            };
+        }
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100d;
+    }
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Durations recorded for one measure of a request.
+ *
+ * <p>
+ * The count, total and maximum are computed over all the recorded values, the percentiles over the last
+ * {@link #WINDOW_SIZE} recorded values.
+ * </p>
+ */
+public final class LatencyHistogram {
+
+    static final int WINDOW_SIZE = 1024;
+
+    private final long[] window = new long[WINDOW_SIZE];
+    private int next;
+    private long count;
+    private long total;
+    private long max;
+
+    /**
+     * Records the given duration.
+     *
+     * @param nanos the duration in nanoseconds.
+     */
+    public synchronized void record(long nanos) {
+        window[next] = nanos;
+        next = (next + 1) % WINDOW_SIZE;
+        count++;
+        total += nanos;
+        max = Math.max(max, nanos);
+    }
+
+    /**
+     * Returns an immutable snapshot of the histogram.
+     *
+     * @return an immutable snapshot of the histogram.
+     */
+    public synchronized Snapshot snapshot() {
+        int size = (int) Math.min(count, WINDOW_SIZE);
+        long[] values = Arrays.copyOf(window, size);
+        Arrays.sort(values);
+        return new Snapshot(count, count == 0 ? 0 : total / count, max,
+                percentile(values, 0.50), percentile(values, 0.95), percentile(values, 0.99));
+    }
+
+    private static long percentile(long[] sortedValues, double percentile) {
+        if (sortedValues.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedValues.length) - 1;
+        return sortedValues[Math.max(0, Math.min(index, sortedValues.length - 1))];
+    }
+
+    /**
+     * Durations of a histogram, in nanoseconds.
+     */
+    public record Snapshot(long count, long mean, long max, long p50, long p95, long p99) {
+    }
+}
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.metrics;
+
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.Project;
+import com.redhat.devtools.lsp4ij.client.CoalesceByKey;
+import com.redhat.devtools.lsp4ij.client.IndexAwareLanguageClient;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Language client which records the latency of the requests it handles in the {@link LanguageClientMetrics} of its
+ * project.
+ */
+public abstract class MeasuredLanguageClient extends IndexAwareLanguageClient {
+
+    // Requests started by runWithMetrics which are not completed, by coalesce key
+    private final Map<CoalesceByKey, CompletableFuture<?>> pendingRequests = new ConcurrentHashMap<>();
+
+    protected MeasuredLanguageClient(Project project) {
+        super(project);
+    }
+
+    /**
+     * Runs the given code with {@link #runAsBackground} and records its latency in the {@link LanguageClientMetrics}
+     * of the given LSP method.
+     *
+     * @param method        the LSP method (ex : microprofile/java/hover).
+     * @param progressTitle the title of the progress.
+     * @param code          the code computing the result of the request.
+     * @param coalesceBy    the key used to cancel the pending request replaced by a newer one.
+     * @param <R>           the result type.
+     * @return the future of the result.
+     */
+    protected <R> CompletableFuture<R> runAsBackgroundWithMetrics(String method, String progressTitle,
+                                                                  Function<ProgressIndicator, R> code,
+                                                                  CoalesceByKey coalesceBy) {
+        LanguageClientMetrics.RequestTracker tracker = LanguageClientMetrics.getInstance(getProject())
+                .startRequest(method, coalesceBy);
+        return tracker.track(runAsBackground(progressTitle, tracker.wrap(code), coalesceBy));
+    }
+
+    /**
+     * Starts the given request, which submits its own read actions, and records its latency in the
+     * {@link LanguageClientMetrics} of the given LSP method. The pending request with the same coalesce key is
+     * cancelled, as {@link #runAsBackground} does.
+     *
+     * @param method     the LSP method (ex : microprofile/java/diagnostics).
+     * @param request    the supplier of the future of the result, called outside of a read action.
+     * @param coalesceBy the key used to cancel the pending request replaced by a newer one.
+     * @param <R>        the result type.
+     * @return the future of the result.
+     */
+    protected <R> CompletableFuture<R> runWithMetrics(String method, Supplier<CompletableFuture<R>> request,
+                                                      CoalesceByKey coalesceBy) {
+        LanguageClientMetrics.RequestTracker tracker = LanguageClientMetrics.getInstance(getProject())
+                .startRequest(method, coalesceBy);
+        CompletableFuture<R> future = request.get();
+        CompletableFuture<?> previous = pendingRequests.put(coalesceBy, future);
+        if (previous != null) {
+            previous.cancel(true);
+        }
+        future.whenComplete((result, error) -> pendingRequests.remove(coalesceBy, future));
+        return tracker.track(future);
+    }
+}
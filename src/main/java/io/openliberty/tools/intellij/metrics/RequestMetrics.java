@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of the requests of one LSP method handled by a language client.
+ *
+ * <ul>
+ *     <li>queue: from the request to the start of its computation. It includes the wait for a thread, for the
+ *     smart mode and for the read action.</li>
+ *     <li>compute: the duration of the computation which produced the result.</li>
+ *     <li>total: from the request to its completion, whatever the outcome.</li>
+ *     <li>restarts: computations restarted because a write action cancelled the read action.</li>
+ *     <li>coalesced: requests cancelled before completion because a newer request with the same coalesce key
+ *     replaced them.</li>
+ *     <li>cancelled: requests cancelled before completion for any other reason (ex : the language server cancelled
+ *     them).</li>
+ * </ul>
+ */
+public final class RequestMetrics {
+
+    private final String method;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong cancelled = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong restarts = new AtomicLong();
+    private final AtomicLong resultSize = new AtomicLong();
+    private final LatencyHistogram queue = new LatencyHistogram();
+    private final LatencyHistogram compute = new LatencyHistogram();
+    private final LatencyHistogram total = new LatencyHistogram();
+
+    RequestMetrics(String method) {
+        this.method = method;
+    }
+
+    void requested() {
+        requests.incrementAndGet();
+    }
+
+    void started(long queueNanos, boolean restarted) {
+        if (restarted) {
+            restarts.incrementAndGet();
+        } else {
+            queue.record(queueNanos);
+        }
+    }
+
+    void computed(long computeNanos, int size) {
+        compute.record(computeNanos);
+        resultSize.addAndGet(size);
+    }
+
+    void completed(long totalNanos) {
+        completed.incrementAndGet();
+        total.record(totalNanos);
+    }
+
+    void coalesced(long totalNanos) {
+        coalesced.incrementAndGet();
+        total.record(totalNanos);
+    }
+
+    void cancelled(long totalNanos) {
+        cancelled.incrementAndGet();
+        total.record(totalNanos);
+    }
+
+    void failed(long totalNanos) {
+        failed.incrementAndGet();
+        total.record(totalNanos);
+    }
+
+    /**
+     * Returns an immutable snapshot of the metrics.
+     *
+     * @return an immutable snapshot of the metrics.
+     */
+    public Snapshot snapshot() {
+        LatencyHistogram.Snapshot computeSnapshot = compute.snapshot();
+        long computations = computeSnapshot.count();
+        return new Snapshot(method, requests.get(), completed.get(), coalesced.get(), cancelled.get(),
+                failed.get(), restarts.get(), computations == 0 ? 0 : resultSize.get() / (double) computations,
+                queue.snapshot(), computeSnapshot, total.snapshot());
+    }
+
+    /**
+     * Metrics of the requests of one LSP method.
+     */
+    public record Snapshot(String method, long requests, long completed, long coalesced, long cancelled, long failed,
+                           long restarts, double meanResultSize, LatencyHistogram.Snapshot queue,
+                           LatencyHistogram.Snapshot compute, LatencyHistogram.Snapshot total) {
+    }
+}
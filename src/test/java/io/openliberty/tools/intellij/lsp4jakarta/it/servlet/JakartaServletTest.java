@@ -13,11 +13,19 @@
 
 package io.openliberty.tools.intellij.lsp4jakarta.it.servlet;
 
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleUtilCore;
 import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtil;
 import com.intellij.openapi.vfs.VfsUtilCore;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.testFramework.IndexingTestUtil;
 import io.openliberty.tools.intellij.lsp4jakarta.it.core.BaseJakartaTest;
 import io.openliberty.tools.intellij.lsp4jakarta.it.core.JakartaForJavaAssert;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
@@ -309,4 +317,50 @@ public class JakartaServletTest extends BaseJakartaTest {
 
         JakartaForJavaAssert.assertJavaCodeAction(codeActionParams, utils, ca1, ca2, ca3, ca4, ca5, ca6, ca7);
     }
+
+    @Test
+    public void DiagnosticsFollowSuperclassChange() throws Exception {
+        Module module = createMavenModule(new File("src/test/resources/projects/maven/jakarta-sample"));
+        IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
+
+        String servletDir = ModuleUtilCore.getModuleDirPath(module) + "/src/main/java/io/openliberty/sample/jakarta/servlet";
+        VirtualFile baseFile = createJavaFile(servletDir, "CacheBaseServlet.java",
+                "package io.openliberty.sample.jakarta.servlet;\n\n" +
+                "import jakarta.servlet.http.HttpServlet;\n\n" +
+                "public class CacheBaseServlet extends HttpServlet {\n\n}");
+        VirtualFile javaFile = createJavaFile(servletDir, "CacheDerivedServlet.java",
+                "package io.openliberty.sample.jakarta.servlet;\n\n" +
+                "import jakarta.servlet.annotation.WebServlet;\n\n" +
+                "@WebServlet(urlPatterns = {\"/cache\"})\n" +
+                "public class CacheDerivedServlet extends CacheBaseServlet {\n\n}");
+        IndexingTestUtil.waitUntilIndexesAreReady(getProject());
+        String uri = VfsUtilCore.virtualToIoFile(javaFile).toURI().toString();
+
+        JakartaJavaDiagnosticsParams diagnosticsParams = new JakartaJavaDiagnosticsParams();
+        diagnosticsParams.setUris(Arrays.asList(uri));
+
+        // CacheDerivedServlet extends HttpServlet through CacheBaseServlet
+        JakartaForJavaAssert.assertJavaDiagnostics(diagnosticsParams, utils);
+
+        // The diagnostics of CacheDerivedServlet must not be reused once CacheBaseServlet no longer extends HttpServlet
+        ApplicationManager.getApplication().invokeAndWait(() -> WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+            Document document = FileDocumentManager.getInstance().getDocument(baseFile);
+            document.setText("package io.openliberty.sample.jakarta.servlet;\n\n" +
+                    "public class CacheBaseServlet {\n\n}");
+            PsiDocumentManager.getInstance(getProject()).commitDocument(document);
+        }));
+
+        Diagnostic d = JakartaForJavaAssert.d(5, 13, 32, "Annotated classes with @WebServlet must extend the HttpServlet class.",
+                DiagnosticSeverity.Error, "jakarta-servlet", "ExtendHttpServlet");
+        JakartaForJavaAssert.assertJavaDiagnostics(diagnosticsParams, utils, d);
+    }
+
+    private static VirtualFile createJavaFile(String dirPath, String name, String content) throws Exception {
+        return WriteAction.computeAndWait(() -> {
+            VirtualFile dir = VfsUtil.createDirectoryIfMissing(dirPath);
+            VirtualFile file = dir.createChildData(JakartaServletTest.class, name);
+            VfsUtil.saveText(file, content);
+            return file;
+        });
+    }
 }